@@ -3,7 +3,7 @@ package greencity.config;
 import greencity.security.filters.AccessTokenAuthenticationFilter;
 import greencity.security.jwt.JwtTool;
 import greencity.security.providers.JwtAuthenticationProvider;
-import greencity.service.UserService;
+import greencity.security.service.PrincipalCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -49,17 +49,17 @@ public class SecurityConfig {
     private static final String HABIT_ASSIGN_ID = "/habit/assign/{habitId}";
     private static final String USER_SHOPPING_LIST = "/user/shopping-list-items";
     private final JwtTool jwtTool;
-    private final UserService userService;
+    private final PrincipalCacheService principalCacheService;
     private final AuthenticationConfiguration authenticationConfiguration;
 
     /**
      * Constructor.
      */
     @Autowired
-    public SecurityConfig(JwtTool jwtTool, UserService userService,
+    public SecurityConfig(JwtTool jwtTool, PrincipalCacheService principalCacheService,
                           AuthenticationConfiguration authenticationConfiguration) {
         this.jwtTool = jwtTool;
-        this.userService = userService;
+        this.principalCacheService = principalCacheService;
         this.authenticationConfiguration = authenticationConfiguration;
     }
 
@@ -95,7 +95,7 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
                 .addFilterBefore(
-                        new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), userService),
+                        new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), principalCacheService),
                         UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(exception -> exception.authenticationEntryPoint((req, resp, exc) -> resp
                                 .sendError(SC_UNAUTHORIZED, "Authorize first."))
@@ -111,7 +111,8 @@ public class SecurityConfig {
                                 "/econews/comments/replies/{parentCommentId}")
                         .hasAnyRole(ADMIN)
                         .requestMatchers("/css/**",
-                                "/img/**")
+                                "/img/**",
+                                "/files/**")
                         .permitAll()
                         .requestMatchers(HttpMethod.GET, ECONEWS_COMMENTS)
                         .hasAnyRole(ADMIN)
@@ -4,6 +4,7 @@ import greencity.converters.UserArgumentResolver;
 import greencity.service.UserService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,9 +13,11 @@ import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Locale;
 
@@ -24,6 +27,10 @@ public class WebMvcConfig implements WebMvcConfigurer {
     private UserService userService;
     @Autowired
     private ModelMapper modelMapper;
+    @Value("${greencity.storage.type:azure}")
+    private String storageType;
+    @Value("${greencity.storage.local.root:${java.io.tmpdir}/greencity-files}")
+    private String localStorageRoot;
 
     /**
      * Method for configuring message source.
@@ -81,6 +88,17 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addInterceptor(localeChangeInterceptor());
     }
 
+    /**
+     * Serves files uploaded to local file system when local storage is used.
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if ("local".equals(storageType)) {
+            registry.addResourceHandler("/files/**")
+                .addResourceLocations(Paths.get(localStorageRoot).toUri().toString());
+        }
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(new UserArgumentResolver(userService, modelMapper));
@@ -2,6 +2,7 @@ package greencity.converters;
 
 import greencity.annotations.CurrentUser;
 import greencity.dto.user.UserVO;
+import greencity.security.CurrentUserContext;
 import greencity.service.UserService;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -33,7 +34,12 @@ public class UserArgumentResolver implements HandlerMethodArgumentResolver {
     }
 
     /**
-     * Method returns {@link UserVO} by principal.
+     * Method returns {@link UserVO} by principal. User stored in
+     * {@link CurrentUserContext} during authentication is used if present. It is
+     * a copy of the user cached by
+     * {@link greencity.security.service.PrincipalCacheService}, so it may be up
+     * to {@code greencity.principal.cache.ttl-seconds} (30 by default) stale,
+     * except for changes made through this service, which evict the cache.
      *
      * @return {@link UserVO}
      */
@@ -41,6 +47,10 @@ public class UserArgumentResolver implements HandlerMethodArgumentResolver {
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         Principal principal = webRequest.getUserPrincipal();
-        return principal != null ? userService.findByEmail(principal.getName()) : null;
+        if (principal == null) {
+            return null;
+        }
+        return CurrentUserContext.get(webRequest)
+            .orElseGet(() -> userService.findByEmail(principal.getName()));
     }
 }
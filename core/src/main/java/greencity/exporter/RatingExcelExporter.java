@@ -4,76 +4,109 @@ import greencity.dto.ratingstatistics.RatingStatisticsDto;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.List;
 
 /**
  * This class is used for export {@link greencity.entity.RatingStatistics} data
- * to Excel file.
+ * to Excel file. Rows are written through a streaming workbook which keeps only
+ * a small window of rows in memory.
  *
  * @author Dovganyuk Taras
  */
 @Slf4j
 @Component
 public class RatingExcelExporter {
+    private static final int ROWS_IN_MEMORY = 100;
+    private static final String[] HEADERS =
+        {"Id", "Event", "Date", "UserId", "User email", "Points changed", "Current rating"};
+    private static final int[] COLUMN_WIDTHS = {10, 30, 40, 10, 35, 16, 16};
+
     /**
-     * Export {@link greencity.entity.RatingStatistics} data to Excel file.
+     * Opens writer of {@link greencity.entity.RatingStatistics} data to Excel
+     * file. The file is written to output stream by {@link Writer#finish()}, so
+     * a failed export does not produce a truncated file.
      *
-     * @author Dovganyuk Taras
+     * @param outputStream stream to write Excel file to.
+     * @return {@link Writer} of rows.
+     */
+    public Writer open(OutputStream outputStream) {
+        return new Writer(outputStream);
+    }
+
+    /**
+     * Writer of rows of rating statistics Excel file.
      */
-    public void export(OutputStream outputStream, List<RatingStatisticsDto> ratingStatisticsDtoList) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+    public static class Writer implements AutoCloseable {
+        private final OutputStream outputStream;
+        private final SXSSFWorkbook workbook;
+        private final SXSSFSheet sheet;
+        private int rowCount;
+
+        private Writer(OutputStream outputStream) {
+            this.outputStream = outputStream;
+            this.workbook = new SXSSFWorkbook(ROWS_IN_MEMORY);
+            this.workbook.setCompressTempFiles(true);
+            this.sheet = workbook.createSheet("Rating");
+
             CellStyle style = workbook.createCellStyle();
-            XSSFFont font = workbook.createFont();
+            Font font = workbook.createFont();
             font.setBold(true);
-            font.setFontHeight(14);
+            font.setFontHeightInPoints((short) 14);
             style.setFont(font);
 
-            XSSFSheet sheet = workbook.createSheet("Rating");
-            Row row = sheet.createRow(0);
-            setCell(row, 0, style, "Id");
-            setCell(row, 1, style, "Event");
-            setCell(row, 2, style, "Date");
-            setCell(row, 3, style, "UserId");
-            setCell(row, 4, style, "User email");
-            setCell(row, 5, style, "Points changed");
-            setCell(row, 6, style, "Current rating");
-
-            int rowCount = 1;
-            for (RatingStatisticsDto dto : ratingStatisticsDtoList) {
-                row = sheet.createRow(rowCount++);
-
-                setCell(row, 0, dto.getId().toString(), sheet);
-                setCell(row, 1, dto.getRatingCalculationEnum().toString(), sheet);
-                setCell(row, 2, dto.getCreateDate().toString(), sheet);
-                setCell(row, 3, dto.getUser().getId().toString(), sheet);
-                setCell(row, 4, dto.getUser().getEmail(), sheet);
-                setCell(row, 5, Float.toString(dto.getPointsChanged()), sheet);
-                setCell(row, 6, Float.toString(dto.getRating()), sheet);
+            Row row = sheet.createRow(rowCount++);
+            for (int i = 0; i < HEADERS.length; i++) {
+                Cell cell = row.createCell(i);
+                cell.setCellStyle(style);
+                cell.setCellValue(HEADERS[i]);
+                sheet.setColumnWidth(i, COLUMN_WIDTHS[i] * 256);
             }
+        }
 
-            workbook.write(outputStream);
-        } catch (IOException ex) {
-            log.error("Export to excel file error {}", ex.getMessage());
+        /**
+         * Export {@link greencity.entity.RatingStatistics} data to next row of
+         * Excel file.
+         *
+         * @param dto {@link RatingStatisticsDto} to write.
+         */
+        public void write(RatingStatisticsDto dto) {
+            Row row = sheet.createRow(rowCount++);
+            row.createCell(0).setCellValue(dto.getId().toString());
+            row.createCell(1).setCellValue(dto.getRatingCalculationEnum().toString());
+            row.createCell(2).setCellValue(dto.getCreateDate().toString());
+            row.createCell(3).setCellValue(dto.getUser().getId().toString());
+            row.createCell(4).setCellValue(dto.getUser().getEmail());
+            row.createCell(5).setCellValue(Float.toString(dto.getPointsChanged()));
+            row.createCell(6).setCellValue(Float.toString(dto.getRating()));
         }
-    }
 
-    private static void setCell(Row row, Integer cellNumber, CellStyle style, String cellName) {
-        Cell cell = row.createCell(cellNumber);
-        cell.setCellStyle(style);
-        cell.setCellValue(cellName);
-    }
+        /**
+         * Writes Excel file to output stream. Must be called after the last row is
+         * written; a writer closed without it writes nothing.
+         *
+         * @throws IOException if the file could not be written.
+         */
+        public void finish() throws IOException {
+            workbook.write(outputStream);
+        }
 
-    private static void setCell(Row row, Integer cellNumber, String value, Sheet sheet) {
-        Cell cell = row.createCell(cellNumber);
-        cell.setCellValue(value);
-        sheet.autoSizeColumn(cellNumber);
+        /**
+         * Removes temporary files of rows.
+         */
+        @Override
+        public void close() {
+            workbook.dispose();
+            try {
+                workbook.close();
+            } catch (IOException ex) {
+                log.error("Closing of excel file error {}", ex.getMessage());
+            }
+        }
     }
 }
@@ -1,8 +1,9 @@
 package greencity.security.filters;
 
 import greencity.dto.user.UserVO;
+import greencity.security.CurrentUserContext;
 import greencity.security.jwt.JwtTool;
-import greencity.service.UserService;
+import greencity.security.service.PrincipalCacheService;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,16 +30,16 @@ import java.util.Optional;
 public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTool jwtTool;
     private final AuthenticationManager authenticationManager;
-    private final UserService userService;
+    private final PrincipalCacheService principalCacheService;
 
     /**
      * Constructor.
      */
     public AccessTokenAuthenticationFilter(JwtTool jwtTool, AuthenticationManager authenticationManager,
-        UserService userService) {
+        PrincipalCacheService principalCacheService) {
         this.jwtTool = jwtTool;
         this.authenticationManager = authenticationManager;
-        this.userService = userService;
+        this.principalCacheService = principalCacheService;
     }
 
     private String getTokenFromCookies(Cookie[] cookies) {
@@ -60,7 +61,8 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * Checks if request has token in header, if this token still valid, and set
-     * authentication for spring.
+     * authentication for spring. Authenticated user is stored in
+     * {@link CurrentUserContext} for the rest of the request.
      *
      * @param request  this is servlet that take request
      * @param response this is response servlet
@@ -77,10 +79,12 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
             try {
                 Authentication authentication = authenticationManager
                     .authenticate(new UsernamePasswordAuthenticationToken(token, null));
-                Optional<UserVO> user = userService.findNotDeactivatedByEmail((String) authentication.getPrincipal());
+                Optional<UserVO> user =
+                    principalCacheService.findNotDeactivatedByEmail((String) authentication.getPrincipal());
                 if (user.isPresent()) {
                     log.debug("User successfully authenticate - {}", authentication.getPrincipal());
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    CurrentUserContext.set(request, user.get());
                 }
             } catch (ExpiredJwtException e) {
                 log.info("Token has expired: " + token);
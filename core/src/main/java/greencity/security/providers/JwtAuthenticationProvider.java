@@ -1,14 +1,12 @@
 package greencity.security.providers;
 
 import greencity.security.jwt.JwtTool;
-import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import javax.crypto.SecretKey;
 import java.util.List;
 import java.util.stream.Collectors;
 import static greencity.constant.AppConstant.ROLE;
@@ -47,20 +45,11 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
      */
     @Override
     public Authentication authenticate(Authentication authentication) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtTool.getAccessTokenKey().getBytes());
-        String email = Jwts.parser()
-                .verifyWith(key).build()
-                .parseSignedClaims(authentication.getName())
-                .getPayload()
-                .getSubject();
+        Claims claims = jwtTool.getAccessTokenClaims(authentication.getName());
         @SuppressWarnings({"unchecked, rawtype"})
-        List<String> authorities = (List<String>) Jwts.parser()
-                .verifyWith(key).build()
-                .parseSignedClaims(authentication.getName())
-                .getPayload()
-                .get(ROLE);
+        List<String> authorities = (List<String>) claims.get(ROLE);
         return new UsernamePasswordAuthenticationToken(
-                email,
+                claims.getSubject(),
                 "",
                 authorities.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList()));
     }
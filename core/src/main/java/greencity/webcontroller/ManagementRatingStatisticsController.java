@@ -2,7 +2,6 @@ package greencity.webcontroller;
 
 import greencity.annotations.ApiPageable;
 import greencity.dto.PageableAdvancedDto;
-import greencity.dto.ratingstatistics.RatingStatisticsDto;
 import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
 import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
@@ -27,7 +26,6 @@ import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.List;
 
 @Controller
 @RequestMapping("/management/rating")
@@ -82,8 +80,10 @@ public class ManagementRatingStatisticsController {
 
         response.setHeader(headerKey, headerValue);
 
-        List<RatingStatisticsDto> ratingStatisticsList = ratingStatisticsService.getAllRatingStatistics();
-        ratingExcelExporter.export(response.getOutputStream(), ratingStatisticsList);
+        try (RatingExcelExporter.Writer writer = ratingExcelExporter.open(response.getOutputStream())) {
+            ratingStatisticsService.exportRatingStatistics(null, writer::write);
+            writer.finish();
+        }
     }
 
     /**
@@ -104,10 +104,10 @@ public class ManagementRatingStatisticsController {
 
         response.setHeader(headerKey, headerValue);
 
-        List<RatingStatisticsDto> ratingStatisticsList =
-            ratingStatisticsService
-                .getFilteredRatingStatisticsForExcel(ratingStatisticsViewDto);
-        ratingExcelExporter.export(response.getOutputStream(), ratingStatisticsList);
+        try (RatingExcelExporter.Writer writer = ratingExcelExporter.open(response.getOutputStream())) {
+            ratingStatisticsService.exportRatingStatistics(ratingStatisticsViewDto, writer::write);
+            writer.finish();
+        }
     }
 
     /**
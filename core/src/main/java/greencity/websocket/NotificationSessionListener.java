@@ -0,0 +1,58 @@
+package greencity.websocket;
+
+import greencity.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import java.security.Principal;
+
+/**
+ * Tells {@link NotificationService} which users have open STOMP sessions, so
+ * unread counters are kept only for connected users.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationSessionListener {
+    private final NotificationService notificationService;
+
+    /**
+     * Registers connected session of authenticated user.
+     *
+     * @param event {@link SessionConnectedEvent}
+     */
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Long userId = userIdOf(event);
+        if (userId != null) {
+            notificationService.userConnected(userId);
+        }
+    }
+
+    /**
+     * Registers closed session of authenticated user.
+     *
+     * @param event {@link SessionDisconnectEvent}
+     */
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        Long userId = userIdOf(event);
+        if (userId != null) {
+            notificationService.userDisconnected(userId);
+        }
+    }
+
+    private static Long userIdOf(AbstractSubProtocolEvent event) {
+        Principal user = event.getUser();
+        if (user == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(user.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package greencity.websocket;
+
+import greencity.dto.user.UserVO;
+import greencity.security.jwt.JwtTool;
+import greencity.security.service.PrincipalCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Authenticates STOMP sessions by the access token sent in the
+ * {@code Authorization} header of the CONNECT frame. The principal of an
+ * authenticated session is named by the user id, so messages can be sent to
+ * user destinations by id. Sessions without a valid token stay anonymous and
+ * can use public topics only.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String BEARER = "Bearer ";
+    private final JwtTool jwtTool;
+    private final PrincipalCacheService principalCacheService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String header = accessor.getFirstNativeHeader(AUTHORIZATION);
+            if (header != null && header.startsWith(BEARER)) {
+                authenticate(accessor, header.substring(BEARER.length()));
+            }
+        }
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor, String token) {
+        try {
+            String email = jwtTool.getAccessTokenClaims(token).getSubject();
+            principalCacheService.findNotDeactivatedByEmail(email)
+                .ifPresent(user -> accessor.setUser(new UsernamePasswordAuthenticationToken(
+                    String.valueOf(user.getId()), null, authoritiesOf(user))));
+        } catch (Exception e) {
+            log.info("STOMP session is not authenticated: {}", e.getMessage());
+        }
+    }
+
+    private static List<SimpleGrantedAuthority> authoritiesOf(UserVO user) {
+        return user.getRole() == null ? List.of() : List.of(new SimpleGrantedAuthority(user.getRole().name()));
+    }
+}
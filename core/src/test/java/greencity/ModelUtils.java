@@ -88,7 +88,7 @@ public class ModelUtils {
 
     public static EcoNewsDto getEcoNewsDto() {
         return new EcoNewsDto(ZonedDateTime.of(2022, 12, 12, 12, 12, 12, 12, ZoneId.systemDefault()), null, 1L,
-            "title", "text", "shortInfo", getEcoNewsAuthorDto(), null, null, 12, 12, 12);
+            "title", "text", "shortInfo", getEcoNewsAuthorDto(), null, null, 12, 12, 12, null, null);
     }
 
     public static AddEcoNewsDtoRequest getAddEcoNewsDtoRequest() {
@@ -0,0 +1,76 @@
+package greencity.converters;
+
+import greencity.dto.user.UserVO;
+import greencity.security.CurrentUserContext;
+import greencity.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserArgumentResolverTest {
+    private static final String EMAIL = "test@gmail.com";
+    @Mock
+    private UserService userService;
+    @Mock
+    private ModelMapper modelMapper;
+    @InjectMocks
+    private UserArgumentResolver userArgumentResolver;
+
+    @Test
+    void resolveArgumentReturnsUserFromCurrentUserContextTest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setUserPrincipal(new UsernamePasswordAuthenticationToken(EMAIL, null));
+        UserVO user = UserVO.builder().id(1L).email(EMAIL).build();
+        CurrentUserContext.set(request, user);
+
+        Object actual = userArgumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        assertEquals(user, actual);
+        assertNotSame(user, actual);
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void resolveArgumentReturnsCopyNotSharedWithCacheTest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setUserPrincipal(new UsernamePasswordAuthenticationToken(EMAIL, null));
+        UserVO cached = UserVO.builder().id(1L).email(EMAIL).name("name").userFriends(new ArrayList<>()).build();
+        CurrentUserContext.set(request, cached);
+
+        UserVO actual = (UserVO) userArgumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+        actual.setName("changed");
+        actual.getUserFriends().add(UserVO.builder().id(2L).build());
+
+        assertEquals("name", cached.getName());
+        assertTrue(cached.getUserFriends().isEmpty());
+    }
+
+    @Test
+    void resolveArgumentFindsUserWithoutCurrentUserContextTest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setUserPrincipal(new UsernamePasswordAuthenticationToken(EMAIL, null));
+        UserVO user = UserVO.builder().id(1L).email(EMAIL).build();
+        when(userService.findByEmail(EMAIL)).thenReturn(user);
+
+        assertSame(user, userArgumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null));
+    }
+
+    @Test
+    void resolveArgumentReturnsNullWithoutPrincipalTest() {
+        assertNull(userArgumentResolver.resolveArgument(null, null,
+            new ServletWebRequest(new MockHttpServletRequest()), null));
+        verifyNoInteractions(userService);
+    }
+}
@@ -0,0 +1,62 @@
+package greencity.exporter;
+
+import greencity.annotations.RatingCalculationEnum;
+import greencity.dto.ratingstatistics.RatingStatisticsDto;
+import greencity.dto.user.UserVO;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RatingExcelExporterTest {
+    private static final int ROWS = 250;
+
+    private final RatingExcelExporter ratingExcelExporter = new RatingExcelExporter();
+
+    @Test
+    void writesAllRowsThroughStreamingWorkbookTest() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (RatingExcelExporter.Writer writer = ratingExcelExporter.open(outputStream)) {
+            for (long id = 1; id <= ROWS; id++) {
+                writer.write(ratingStatistics(id));
+            }
+            writer.finish();
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Rating");
+            assertEquals(ROWS, sheet.getLastRowNum());
+            assertEquals("Id", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("1", sheet.getRow(1).getCell(0).getStringCellValue());
+            assertEquals(String.valueOf(ROWS), sheet.getRow(ROWS).getCell(0).getStringCellValue());
+            assertEquals("user" + ROWS + "@gmail.com", sheet.getRow(ROWS).getCell(4).getStringCellValue());
+        }
+    }
+
+    @Test
+    void failedExportWritesNothingTest() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        IllegalStateException failure = new IllegalStateException("cursor failed");
+
+        assertThrows(IllegalStateException.class, () -> {
+            try (RatingExcelExporter.Writer writer = ratingExcelExporter.open(outputStream)) {
+                writer.write(ratingStatistics(1L));
+                throw failure;
+            }
+        });
+
+        assertEquals(0, outputStream.size());
+    }
+
+    private static RatingStatisticsDto ratingStatistics(Long id) {
+        return new RatingStatisticsDto(id, ZonedDateTime.now(), RatingCalculationEnum.ADD_COMMENT, 2, 10,
+            UserVO.builder().id(id).email("user" + id + "@gmail.com").build());
+    }
+}
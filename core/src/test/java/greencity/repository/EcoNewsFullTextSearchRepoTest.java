@@ -0,0 +1,65 @@
+package greencity.repository;
+
+import greencity.entity.EcoNews;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EcoNewsFullTextSearchRepoTest {
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private EcoNewsFullTextSearchRepo ecoNewsFullTextSearchRepo;
+
+    @Test
+    void toPrefixQueryDropsTsqueryOperatorsTest() {
+        assertEquals("eco:* | news:* | green:* | city:* | it:* | s:*",
+            EcoNewsFullTextSearchRepo.toPrefixQuery("eco&news|!green(city):* it's"));
+    }
+
+    @Test
+    void toPrefixQueryOfOperatorsOnlyIsEmptyTest() {
+        assertEquals("", EcoNewsFullTextSearchRepo.toPrefixQuery("&|!():*'"));
+    }
+
+    @Test
+    void findWithOperatorsOnlyDoesNotQueryTest() {
+        assertTrue(ecoNewsFullTextSearchRepo.find(PageRequest.of(0, 5), "&|!():*'", "en").isEmpty());
+
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void findWithoutLanguageUsesDefaultLanguageTest() {
+        Query selectQuery = mock(Query.class, RETURNS_SELF);
+        Query countQuery = mock(Query.class, RETURNS_SELF);
+        when(entityManager.createNativeQuery(anyString(), eq(EcoNews.class))).thenReturn(selectQuery);
+        when(entityManager.createNativeQuery(contains("count(*)"))).thenReturn(countQuery);
+        when(countQuery.getSingleResult()).thenReturn(0L);
+
+        assertEquals(0, ecoNewsFullTextSearchRepo.find(PageRequest.of(0, 5), "news", null).getTotalElements());
+
+        verify(entityManager).createNativeQuery(contains("to_tsquery('english', :query)"), eq(EcoNews.class));
+        verify(selectQuery).setParameter("languageCode", "en");
+        verify(countQuery).setParameter("languageCode", "en");
+        verify(countQuery).setParameter("query", "news:*");
+    }
+}
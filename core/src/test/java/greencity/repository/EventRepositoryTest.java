@@ -0,0 +1,83 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.entity.Event;
+import greencity.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static greencity.repository.ModelUtils.getUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = GreenCityApplication.class)
+class EventRepositoryTest extends IntegrationTestBase {
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private User author;
+    private Event cleanup;
+    private Event workshop;
+    private Event tagged;
+    private Event discount;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepo.save(getUser());
+        cleanup = eventRepository.save(event(author, "River cleanup", "Collect plastic", List.of()));
+        workshop = eventRepository.save(event(author, "Workshop", "How to cleanup a park", List.of()));
+        tagged = eventRepository.save(event(author, "Meeting", "Monthly meeting", List.of("cleanup")));
+        discount = eventRepository.save(event(author, "Sale 50% off", "Second hand_market", List.of()));
+        eventRepository.save(event(author, "Concert", "Music in the park", List.of("music")));
+        eventRepository.flush();
+    }
+
+    @Test
+    void searchEventsMatchesTitleDescriptionAndTagsTest() {
+        Page<Event> page = eventRepository.searchEvents("cleanup", PageRequest.of(0, 10));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(cleanup.getId(), workshop.getId(), tagged.getId()),
+            page.map(Event::getId).getContent());
+    }
+
+    @Test
+    void searchEventsCountsEventMatchedTwiceOnceTest() {
+        Event both = eventRepository.save(event(author, "Cleanup", "Cleanup day", List.of("cleanup")));
+        eventRepository.flush();
+
+        Page<Event> page = eventRepository.searchEvents("cleanup", PageRequest.of(0, 2));
+
+        assertEquals(4, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+        assertEquals(both.getId(), page.getContent().get(0).getId());
+    }
+
+    @Test
+    void searchEventsMatchesWildcardsLiterallyTest() {
+        assertEquals(List.of(discount.getId()),
+            eventRepository.searchEvents("50%", PageRequest.of(0, 10)).map(Event::getId).getContent());
+        assertEquals(List.of(discount.getId()),
+            eventRepository.searchEvents("%", PageRequest.of(0, 10)).map(Event::getId).getContent());
+        assertEquals(List.of(discount.getId()),
+            eventRepository.searchEvents("_", PageRequest.of(0, 10)).map(Event::getId).getContent());
+    }
+
+    private static Event event(User author, String title, String description, List<String> tags) {
+        return Event.builder()
+            .title(title)
+            .description(description)
+            .tags(tags)
+            .author(author)
+            .build();
+    }
+}
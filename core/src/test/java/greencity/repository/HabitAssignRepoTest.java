@@ -0,0 +1,153 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.entity.Habit;
+import greencity.entity.HabitAssign;
+import greencity.entity.User;
+import greencity.enums.HabitAssignStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static greencity.repository.ModelUtils.getUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = GreenCityApplication.class)
+class HabitAssignRepoTest extends IntegrationTestBase {
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private HabitRepo habitRepo;
+
+    @Autowired
+    private HabitAssignRepo habitAssignRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void expireInProgressHabitAssignsUpdatesChunksTest() {
+        ZonedDateTime now = ZonedDateTime.now();
+        User user = userRepo.save(getUser());
+        Habit habit = habitRepo.save(habit());
+        List<HabitAssign> expired = habitAssignRepo.saveAll(List.of(
+            habitAssign(user, habit, HabitAssignStatus.INPROGRESS, now.minusDays(10)),
+            habitAssign(user, habit, HabitAssignStatus.INPROGRESS, now.minusDays(5)),
+            habitAssign(user, habit, HabitAssignStatus.INPROGRESS, now.minusDays(2))));
+        HabitAssign active = habitAssignRepo.save(habitAssign(user, habit, HabitAssignStatus.INPROGRESS, now));
+        HabitAssign acquired =
+            habitAssignRepo.save(habitAssign(user, habit, HabitAssignStatus.ACQUIRED, now.minusDays(10)));
+        habitAssignRepo.flush();
+
+        assertEquals(2, habitAssignRepo.expireInProgressHabitAssigns(now, 2));
+        assertEquals(1, habitAssignRepo.expireInProgressHabitAssigns(now, 2));
+        assertEquals(0, habitAssignRepo.expireInProgressHabitAssigns(now, 2));
+
+        entityManager.clear();
+        expired.forEach(habitAssign -> assertEquals(HabitAssignStatus.EXPIRED, statusOf(habitAssign)));
+        assertEquals(HabitAssignStatus.INPROGRESS, statusOf(active));
+        assertEquals(HabitAssignStatus.ACQUIRED, statusOf(acquired));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void expireInProgressHabitAssignsSkipsLockedRowsTest() throws Exception {
+        ZonedDateTime now = ZonedDateTime.now();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        User user = getUser();
+        user.setEmail("skip.locked@gmail.com");
+        List<HabitAssign> habitAssigns = transactionTemplate.execute(status -> {
+            User savedUser = userRepo.save(user);
+            Habit habit = habitRepo.save(habit());
+            return habitAssignRepo.saveAll(List.of(
+                habitAssign(savedUser, habit, HabitAssignStatus.INPROGRESS, now.minusDays(10)),
+                habitAssign(savedUser, habit, HabitAssignStatus.INPROGRESS, now.minusDays(10))));
+        });
+        HabitAssign locked = habitAssigns.get(0);
+        HabitAssign free = habitAssigns.get(1);
+        CountDownLatch lockAcquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> lock = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT id FROM habit_assign WHERE id = ? FOR UPDATE", locked.getId());
+                lockAcquired.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(lockAcquired.await(10, TimeUnit.SECONDS));
+
+            assertEquals(1, habitAssignRepo.expireInProgressHabitAssigns(now, 10));
+            assertEquals(HabitAssignStatus.EXPIRED, statusOf(free));
+
+            release.countDown();
+            lock.get(10, TimeUnit.SECONDS);
+            assertEquals(HabitAssignStatus.INPROGRESS, statusOf(locked));
+            assertEquals(1, habitAssignRepo.expireInProgressHabitAssigns(now, 10));
+            assertEquals(HabitAssignStatus.EXPIRED, statusOf(locked));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            transactionTemplate.executeWithoutResult(status -> {
+                habitAssignRepo.deleteAllById(List.of(locked.getId(), free.getId()));
+                habitRepo.deleteById(locked.getHabit().getId());
+                userRepo.deleteById(locked.getUser().getId());
+            });
+        }
+    }
+
+    private HabitAssignStatus statusOf(HabitAssign habitAssign) {
+        return HabitAssignStatus.valueOf(jdbcTemplate.queryForObject(
+            "SELECT status FROM habit_assign WHERE id = ?", String.class, habitAssign.getId()));
+    }
+
+    private static Habit habit() {
+        return Habit.builder()
+            .image("image")
+            .complexity(1)
+            .defaultDuration(7)
+            .isCustomHabit(false)
+            .build();
+    }
+
+    private static HabitAssign habitAssign(User user, Habit habit, HabitAssignStatus status,
+        ZonedDateTime createDate) {
+        return HabitAssign.builder()
+            .user(user)
+            .habit(habit)
+            .status(status)
+            .createDate(createDate)
+            .lastEnrollmentDate(createDate)
+            .duration(1)
+            .workingDays(0)
+            .habitStreak(0)
+            .progressNotificationHasDisplayed(false)
+            .build();
+    }
+}
@@ -0,0 +1,113 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.entity.Habit;
+import greencity.entity.HabitAssign;
+import greencity.entity.User;
+import greencity.enums.HabitAssignStatus;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static greencity.repository.ModelUtils.getUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = GreenCityApplication.class)
+class HabitRepoTest extends IntegrationTestBase {
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private HabitRepo habitRepo;
+
+    @Autowired
+    private HabitAssignRepo habitAssignRepo;
+
+    private User user;
+    private Habit habit;
+    private Habit customHabit;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepo.save(getUser());
+        User otherUser = getUser();
+        otherUser.setEmail("other@gmail.com");
+        otherUser = userRepo.save(otherUser);
+        habit = habitRepo.save(habit(false, null));
+        customHabit = habitRepo.save(habit(true, user.getId()));
+
+        habitAssignRepo.saveAll(List.of(
+            habitAssign(otherUser, habit, HabitAssignStatus.ACQUIRED),
+            habitAssign(user, habit, HabitAssignStatus.ACQUIRED),
+            habitAssign(user, habit, HabitAssignStatus.INPROGRESS),
+            habitAssign(otherUser, customHabit, HabitAssignStatus.INPROGRESS),
+            habitAssign(user, customHabit, HabitAssignStatus.CANCELLED)));
+        habitAssignRepo.flush();
+    }
+
+    @Test
+    void findCatalogCardsTest() {
+        Map<Long, Tuple> cards = habitRepo.findCatalogCards(List.of(habit.getId(), customHabit.getId()), user.getId())
+            .stream()
+            .collect(Collectors.toMap(card -> ((Number) card.get("id")).longValue(), Function.identity()));
+
+        assertEquals(2, cards.size());
+
+        Tuple card = cards.get(habit.getId());
+        assertFalse(card.get("is_custom_habit", Boolean.class));
+        assertNull(card.get("creator_id"));
+        assertEquals(2L, ((Number) card.get("acquired_users")).longValue());
+        assertEquals("INPROGRESS", card.get("assign_status", String.class));
+
+        Tuple customCard = cards.get(customHabit.getId());
+        assertTrue(customCard.get("is_custom_habit", Boolean.class));
+        assertEquals(user.getId(), ((Number) customCard.get("creator_id")).longValue());
+        assertEquals(0L, ((Number) customCard.get("acquired_users")).longValue());
+        assertNull(customCard.get("assign_status"));
+    }
+
+    @Test
+    void findCatalogCardsOfOtherUserTest() {
+        List<Tuple> cards = habitRepo.findCatalogCards(List.of(habit.getId()), -1L);
+
+        assertEquals(1, cards.size());
+        assertEquals(2L, ((Number) cards.get(0).get("acquired_users")).longValue());
+        assertNull(cards.get(0).get("assign_status"));
+    }
+
+    private static Habit habit(boolean custom, Long creatorId) {
+        return Habit.builder()
+            .image("image")
+            .complexity(1)
+            .defaultDuration(7)
+            .isCustomHabit(custom)
+            .userId(creatorId)
+            .build();
+    }
+
+    private static HabitAssign habitAssign(User user, Habit habit, HabitAssignStatus status) {
+        return HabitAssign.builder()
+            .user(user)
+            .habit(habit)
+            .status(status)
+            .createDate(ZonedDateTime.now())
+            .lastEnrollmentDate(ZonedDateTime.now())
+            .duration(7)
+            .workingDays(0)
+            .habitStreak(0)
+            .progressNotificationHasDisplayed(false)
+            .build();
+    }
+}
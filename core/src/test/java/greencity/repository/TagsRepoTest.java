@@ -0,0 +1,96 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.entity.Language;
+import greencity.entity.Tag;
+import greencity.entity.localization.TagTranslation;
+import greencity.enums.TagType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = GreenCityApplication.class)
+class TagsRepoTest extends IntegrationTestBase {
+    @Autowired
+    private TagsRepo tagsRepo;
+
+    @Autowired
+    private LanguageRepo languageRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> tagIds;
+
+    @BeforeEach
+    void setUp() {
+        Language ua = languageRepo.findByCode("ua").orElseThrow();
+        Language en = languageRepo.findByCode("en").orElseThrow();
+        tagIds = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Tag tag = Tag.builder().type(TagType.EVENT).build();
+            tag.setTagTranslations(List.of(
+                TagTranslation.builder().name("pgtag" + i + "ua").language(ua).tag(tag).build(),
+                TagTranslation.builder().name("pgtag" + i + "en").language(en).tag(tag).build()));
+            tagIds.add(tagsRepo.save(tag).getId());
+        }
+        tagsRepo.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void filterByAllFieldsKeepsOrderAndTotalTest() {
+        Page<Tag> firstPage = tagsRepo.filterByAllFields(PageRequest.of(0, 2), "PGTAG");
+        Page<Tag> secondPage = tagsRepo.filterByAllFields(PageRequest.of(1, 2), "PGTAG");
+
+        assertEquals(3, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getTotalPages());
+        assertEquals(tagIds.subList(0, 2), firstPage.map(Tag::getId).getContent());
+        assertEquals(tagIds.subList(2, 3), secondPage.map(Tag::getId).getContent());
+        firstPage.forEach(this::assertTranslationsFetched);
+    }
+
+    @Test
+    void filterByAllFieldsMatchesIdTest() {
+        Long id = tagIds.get(1);
+
+        Page<Tag> page = tagsRepo.filterByAllFields(PageRequest.of(0, 100), String.valueOf(id));
+
+        assertTrue(page.map(Tag::getId).getContent().contains(id));
+    }
+
+    @Test
+    void findAllKeepsOrderAndTotalTest() {
+        long total = tagsRepo.count();
+        int size = 2;
+        int lastPage = (int) ((total - 1) / size);
+
+        Page<Tag> page = tagsRepo.findAll(PageRequest.of(lastPage, size));
+
+        assertEquals(total, page.getTotalElements());
+        assertEquals(lastPage + 1, page.getTotalPages());
+        assertEquals(tagsRepo.findAllIds(PageRequest.of(lastPage, size)).getContent(),
+            page.map(Tag::getId).getContent());
+        assertEquals(tagIds.get(2), page.getContent().get(page.getNumberOfElements() - 1).getId());
+        page.forEach(this::assertTranslationsFetched);
+    }
+
+    private void assertTranslationsFetched(Tag tag) {
+        assertTrue(Hibernate.isInitialized(tag.getTagTranslations()));
+        if (tagIds.contains(tag.getId())) {
+            assertEquals(2, tag.getTagTranslations().size());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package greencity.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TwoPhasePagingTest {
+    private static final PageRequest PAGEABLE = PageRequest.of(1, 3);
+
+    @Test
+    void fetchKeepsOrderOfIdsAndTotalTest() {
+        Page<Long> ids = new PageImpl<>(List.of(6L, 4L, 5L), PAGEABLE, 8);
+
+        Page<String> page = TwoPhasePaging.fetch(ids, fetched -> List.of("4", "5", "6"), Long::valueOf);
+
+        assertEquals(List.of("6", "4", "5"), page.getContent());
+        assertEquals(8, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(PAGEABLE, page.getPageable());
+    }
+
+    @Test
+    void fetchSkipsEntitiesRemovedBetweenQueriesTest() {
+        Page<Long> ids = new PageImpl<>(List.of(6L, 4L, 5L), PAGEABLE, 8);
+
+        Page<String> page = TwoPhasePaging.fetch(ids, fetched -> List.of("5", "6"), Long::valueOf);
+
+        assertEquals(List.of("6", "5"), page.getContent());
+        assertEquals(8, page.getTotalElements());
+    }
+
+    @Test
+    void fetchOfEmptyPageDoesNotLoadEntitiesTest() {
+        Page<Long> ids = new PageImpl<>(List.of(), PAGEABLE, 3);
+        Function<Collection<Long>, List<String>> fetcher = fetched -> {
+            throw new AssertionError("entities must not be loaded");
+        };
+
+        Page<String> page = TwoPhasePaging.fetch(ids, fetcher, Long::valueOf);
+
+        assertTrue(page.isEmpty());
+        assertEquals(3, page.getTotalElements());
+    }
+}
@@ -1,8 +1,8 @@
 package greencity.security.filters;
 
-import greencity.client.RestClient;
 import greencity.dto.user.UserVO;
 import greencity.security.jwt.JwtTool;
+import greencity.security.service.PrincipalCacheService;
 import io.jsonwebtoken.ExpiredJwtException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +26,8 @@ import java.io.PrintStream;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,7 +47,7 @@ class AccessTokenAuthenticationFilterTest {
     @Mock
     AuthenticationManager authenticationManager;
     @Mock
-    RestClient restClient;
+    PrincipalCacheService principalCacheService;
 
     @InjectMocks
     private AccessTokenAuthenticationFilter authenticationFilter;
@@ -67,12 +69,15 @@ class AccessTokenAuthenticationFilterTest {
         when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn("SuperSecretAccessToken");
         when(authenticationManager.authenticate(any()))
             .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
-        when(restClient.findNotDeactivatedByEmail("test@mail.com"))
-            .thenReturn(Optional.of(UserVO.builder().id(1L).build()));
+        UserVO user = UserVO.builder().id(1L).build();
+        when(principalCacheService.findNotDeactivatedByEmail("test@mail.com"))
+            .thenReturn(Optional.of(user));
         doNothing().when(chain).doFilter(request, response);
 
         authenticationFilter.doFilterInternal(request, response, chain);
         verify(authenticationManager).authenticate(any());
+        verify(principalCacheService).findNotDeactivatedByEmail("test@mail.com");
+        verify(request).setAttribute(anyString(), eq(user));
         verify(chain).doFilter(request, response);
     }
 
@@ -94,9 +99,10 @@ class AccessTokenAuthenticationFilterTest {
         when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn(token);
         when(authenticationManager.authenticate(any()))
             .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
-        when(restClient.findNotDeactivatedByEmail("test@mail.com")).thenThrow(RuntimeException.class);
+        when(principalCacheService.findNotDeactivatedByEmail("test@mail.com")).thenThrow(RuntimeException.class);
         authenticationFilter.doFilterInternal(request, response, chain);
         verify(jwtTool).getTokenFromHttpServletRequest(request);
         verify(authenticationManager).authenticate(any());
+        verify(request, never()).setAttribute(anyString(), any());
     }
 }
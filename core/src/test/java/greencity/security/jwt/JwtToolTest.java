@@ -3,16 +3,17 @@ package greencity.security.jwt;
 import greencity.dto.user.UserVO;
 import greencity.entity.User;
 import greencity.enums.Role;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -32,14 +33,56 @@ class JwtToolTest {
     @Mock
     HttpServletRequest request;
 
-    @InjectMocks
     private JwtTool jwtTool;
 
     @BeforeEach
     public void init() {
-        ReflectionTestUtils.setField(jwtTool, "accessTokenValidTimeInMinutes", 15);
-        ReflectionTestUtils.setField(jwtTool, "refreshTokenValidTimeInMinutes", 15);
-        ReflectionTestUtils.setField(jwtTool, "accessTokenKey", "123123123");
+        jwtTool = new JwtTool(15, 15, "123123123123123123123123123123123123", 100, 300);
+    }
+
+    @Test
+    void getAccessTokenClaimsTest() {
+        String accessToken = jwtTool.createAccessToken(expectedEmail, expectedRole);
+
+        Claims claims = jwtTool.getAccessTokenClaims(accessToken);
+
+        assertEquals(expectedEmail, claims.getSubject());
+        assertEquals(List.of(expectedRole.name()), claims.get(ROLE));
+        assertSame(claims, jwtTool.getAccessTokenClaims(accessToken));
+    }
+
+    @Test
+    void createAccessTokenWithValidityTest() {
+        String accessToken = jwtTool.createAccessToken(expectedEmail, Role.ROLE_ADMIN, Duration.ofSeconds(60));
+
+        Claims claims = jwtTool.getAccessTokenClaims(accessToken);
+
+        assertEquals(List.of(Role.ROLE_ADMIN.name()), claims.get(ROLE));
+        assertEquals(60_000, claims.getExpiration().getTime() - claims.getIssuedAt().getTime(), 1000);
+    }
+
+    @Test
+    void getAccessTokenClaimsWithTamperedSignatureTest() {
+        String accessToken = jwtTool.createAccessToken(expectedEmail, expectedRole);
+        jwtTool.getAccessTokenClaims(accessToken);
+        String tampered = accessToken.substring(0, accessToken.lastIndexOf('.') + 1) + "AAAA";
+
+        assertThrows(SignatureException.class, () -> jwtTool.getAccessTokenClaims(tampered));
+    }
+
+    @Test
+    void isTokenValidWithOtherKeyTest() {
+        String accessToken = jwtTool.createAccessToken(expectedEmail, expectedRole);
+
+        assertTrue(jwtTool.isTokenValid(accessToken, jwtTool.getAccessTokenKey()));
+        assertFalse(jwtTool.isTokenValid(accessToken, "321321321321321321321321321321321321"));
+    }
+
+    @Test
+    void getEmailOutOfCreatedAccessTokenTest() {
+        String accessToken = jwtTool.createAccessToken(expectedEmail, expectedRole);
+
+        assertEquals(expectedEmail, jwtTool.getEmailOutOfAccessToken(accessToken));
     }
 
 //    @Test
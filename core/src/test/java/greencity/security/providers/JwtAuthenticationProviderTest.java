@@ -5,8 +5,6 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -15,7 +13,6 @@ import greencity.security.jwt.JwtTool;
 import io.jsonwebtoken.ExpiredJwtException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
 
 /**
  * @author Yurii Koval
@@ -23,14 +20,11 @@ import static org.mockito.Mockito.when;
 class JwtAuthenticationProviderTest {
     private final Role expectedRole = Role.ROLE_ADMIN;
 
-    @Mock
-    JwtTool jwtTool;
-
     private JwtAuthenticationProvider jwtAuthenticationProvider;
 
     @BeforeEach
     public void setUp() {
-        MockitoAnnotations.initMocks(this);
+        JwtTool jwtTool = new JwtTool(15, 15, "12312312312312312312312312312312312", 100, 300);
         jwtAuthenticationProvider = new JwtAuthenticationProvider(jwtTool);
     }
 
@@ -41,7 +35,6 @@ class JwtAuthenticationProviderTest {
             TUlOIl0sImlhdCI6MTY1NDYzNjc2OSwiZXhwIjo2MTY1NDYzNjcwOX0.ajLrWu7MNoXWlPRWi\
             LD9d7vDzScqx8-9eBl3ZlYlspQ\
             """;
-        when(jwtTool.getAccessTokenKey()).thenReturn("12312312312312312312312312312312312");
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 accessToken,
@@ -60,7 +53,6 @@ class JwtAuthenticationProviderTest {
 
     @Test
     void authenticateWithExpiredAccessToken() {
-        when(jwtTool.getAccessTokenKey()).thenReturn("12312312312312312312312312312312312");
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 """
                     eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJxcXFAZW1haWwuY29tIiwicm9sZSI6WyJST0xF\
@@ -75,7 +67,6 @@ class JwtAuthenticationProviderTest {
 
     @Test
     void authenticateWithMalformedAccessToken() {
-        when(jwtTool.getAccessTokenKey()).thenReturn("123123123");
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 "Malformed"
                         + ".eyJzdWIiOiJ0ZXN0QGdtYWlsLmNvbSIsImF1dGhvcml0aWVzIjpbIlJPTEVfVVNFUiJdLCJpYXQiOjE1Nz"
@@ -28,6 +28,11 @@ public class EcoNews {
     @Column
     private String imagePath;
 
+    @Embedded
+    @AttributeOverride(name = "thumbnailPath", column = @Column(name = "image_thumbnail_path"))
+    @AttributeOverride(name = "cardPath", column = @Column(name = "image_card_path"))
+    private ImageVariants imageVariants;
+
     @Column
     private String source;
     @Column
@@ -61,4 +66,10 @@ public class EcoNews {
         joinColumns = @JoinColumn(name = "eco_news_id"),
         inverseJoinColumns = @JoinColumn(name = "users_id"))
     private Set<User> usersDislikedNews = new HashSet<>();
+
+    @Column(name = "likes_count", insertable = false, updatable = false)
+    private int likesCount;
+
+    @Column(name = "dislikes_count", insertable = false, updatable = false)
+    private int dislikesCount;
 }
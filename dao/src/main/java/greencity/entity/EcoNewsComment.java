@@ -55,6 +55,9 @@ public class EcoNewsComment {
     @Transient
     private boolean currentUserLiked = false;
 
+    @Transient
+    private Integer likesCount;
+
     @ManyToMany
     @JoinTable(
         name = "econews_comment_users_liked",
@@ -2,8 +2,10 @@ package greencity.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Table(name = "events")
@@ -27,6 +29,7 @@ public class Event {
     private boolean open;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "event_dates_locations", joinColumns = @JoinColumn(name = "event_id"))
     @AttributeOverrides({
             @AttributeOverride(name = "startDate", column = @Column(name = "start_date")),
@@ -38,6 +41,7 @@ public class Event {
     private List<DatesLocations> datesLocations;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "event_tags", joinColumns = @JoinColumn(name = "event_id"))
     @Column(name = "tag")
     private List<String> tags;
@@ -47,7 +51,14 @@ public class Event {
     private User author;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "event_images", joinColumns = @JoinColumn(name = "event_id"))
     @Column(name = "image_path")
     private List<String> imagePaths;
+
+    @ElementCollection
+    @BatchSize(size = 50)
+    @CollectionTable(name = "event_image_variants", joinColumns = @JoinColumn(name = "event_id"))
+    @MapKeyColumn(name = "image_path")
+    private Map<String, ImageVariants> imageVariants;
 }
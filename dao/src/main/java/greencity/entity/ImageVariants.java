@@ -0,0 +1,22 @@
+package greencity.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Paths of downscaled copies of an uploaded image.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class ImageVariants {
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
+
+    @Column(name = "card_path")
+    private String cardPath;
+}
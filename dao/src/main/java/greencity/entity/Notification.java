@@ -25,6 +25,12 @@ public class Notification {
 
     private String message;
 
+    @Column(name = "title_params", columnDefinition = "text[]")
+    private String[] titleParams;
+
+    @Column(name = "message_params", columnDefinition = "text[]")
+    private String[] messageParams;
+
     @CreationTimestamp
     private LocalDateTime createdDate;
 
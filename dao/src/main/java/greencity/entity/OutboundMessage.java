@@ -0,0 +1,57 @@
+package greencity.entity;
+
+import greencity.enums.OutboundMessageStatus;
+import greencity.enums.OutboundMessageType;
+import greencity.enums.Role;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+
+/**
+ * Message to another service which is saved in the same transaction as the
+ * change it is about and is sent later.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table(name = "outbound_messages")
+public class OutboundMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private OutboundMessageType type;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "sender_email")
+    private String senderEmail;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "sender_role")
+    private Role senderRole;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private OutboundMessageStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "create_date", nullable = false)
+    private ZonedDateTime createDate;
+}
@@ -0,0 +1,37 @@
+package greencity.entity;
+
+import greencity.annotations.RatingCalculationEnum;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+
+/**
+ * Rating change of user which is not applied to user rating yet.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table(name = "rating_events")
+public class RatingEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "event", nullable = false)
+    private RatingCalculationEnum ratingCalculationEnum;
+
+    @Column(name = "points_changed", nullable = false)
+    private double pointsChanged;
+
+    @CreationTimestamp
+    @Column(name = "create_date", nullable = false)
+    private ZonedDateTime createDate;
+}
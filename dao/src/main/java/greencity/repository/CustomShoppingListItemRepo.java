@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -65,6 +66,15 @@ public interface CustomShoppingListItemRepo extends JpaRepository<CustomShopping
      */
     List<CustomShoppingListItem> findAllByUserIdAndHabitId(Long userId, Long habitId);
 
+    /**
+     * Method finds all custom shopping list items of habits.
+     *
+     * @param habitIds ids of {@link greencity.entity.Habit}s
+     * @return list of {@link CustomShoppingListItem}
+     */
+    @Query("SELECT cg FROM CustomShoppingListItem cg WHERE cg.habit.id IN :habitIds ORDER BY cg.id")
+    List<CustomShoppingListItem> findAllByHabitIds(@Param("habitIds") Collection<Long> habitIds);
+
     /**
      * Method returns particular selected custom shopping list items for user.
      *
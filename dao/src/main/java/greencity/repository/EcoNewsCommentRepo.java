@@ -1,11 +1,14 @@
 package greencity.repository;
 
 import greencity.entity.EcoNewsComment;
+import jakarta.persistence.Tuple;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long> {
@@ -40,6 +43,29 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
     @Query("SELECT count(ec) from EcoNewsComment ec where ec.parentComment.id = ?1 AND ec.deleted = FALSE")
     int countByParentCommentId(Long parentCommentId);
 
+    /**
+     * Method returns count of not deleted replies to each of given comments. Every
+     * {@link Tuple} contains parent comment id and count of replies.
+     *
+     * @param parentCommentIds ids of comments, count of replies to which we get.
+     * @return list of {@link Tuple}, comments without replies are absent.
+     */
+    @Query("SELECT ec.parentComment.id, count(ec) FROM EcoNewsComment ec "
+        + "WHERE ec.parentComment.id IN :parentCommentIds AND ec.deleted = FALSE GROUP BY ec.parentComment.id")
+    List<Tuple> countRepliesByParentCommentIds(Collection<Long> parentCommentIds);
+
+    /**
+     * Method returns likes of each of given comments. Every {@link Tuple} contains
+     * comment id, count of likes and count of likes of given user.
+     *
+     * @param commentIds ids of comments.
+     * @param userId     id of current user, may be {@code null}.
+     * @return list of {@link Tuple}, comments without likes are absent.
+     */
+    @Query("SELECT ec.id, count(u), sum(CASE WHEN u.id = :userId THEN 1 ELSE 0 END) FROM EcoNewsComment ec "
+        + "JOIN ec.usersLiked u WHERE ec.id IN :commentIds GROUP BY ec.id")
+    List<Tuple> countLikesByCommentIds(Collection<Long> commentIds, Long userId);
+
     /**
      * The method returns the count of not deleted comments, specified by ecoNewsId.
      *
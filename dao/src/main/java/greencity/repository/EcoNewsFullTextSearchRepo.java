@@ -0,0 +1,91 @@
+package greencity.repository;
+
+import greencity.constant.AppConstant;
+import greencity.entity.EcoNews;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Searches eco news with PostgreSQL full-text search over precomputed
+ * {@code tsvector} columns backed by GIN indexes. Words are stemmed with the
+ * text search configuration of the requested language, matched by prefix and
+ * results are ordered by rank. News and tag matches are found separately, each
+ * with its own GIN index, and united.
+ */
+@Repository
+@ConditionalOnProperty(name = "greencity.search.engine", havingValue = "full-text", matchIfMissing = true)
+public class EcoNewsFullTextSearchRepo implements EcoNewsSearchEngine {
+    private static final Map<String, String> CONFIGS = Map.of("en", "english");
+    private static final String DEFAULT_CONFIG = "simple";
+    private static final String MATCHED_IDS = "SELECT n.id FROM eco_news n "
+        + "WHERE n.%1$s @@ to_tsquery('%2$s', :query) "
+        + "UNION "
+        + "SELECT ent.eco_news_id FROM tag_translations tt "
+        + "JOIN languages l ON l.id = tt.language_id "
+        + "JOIN eco_news_tags ent ON ent.tags_id = tt.tag_id "
+        + "WHERE l.code = :languageCode "
+        + "AND to_tsvector('simple', tt.name) @@ to_tsquery('simple', :query)";
+    private final EntityManager entityManager;
+
+    /**
+     * Initialization constructor.
+     */
+    public EcoNewsFullTextSearchRepo(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<EcoNews> find(Pageable pageable, String searchingText, String languageCode) {
+        String query = toPrefixQuery(searchingText);
+        if (query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        String language = languageCode == null
+            ? AppConstant.DEFAULT_LANGUAGE_CODE
+            : languageCode.toLowerCase(Locale.ROOT);
+        String config = CONFIGS.getOrDefault(language, DEFAULT_CONFIG);
+        String matchedIds = String.format(MATCHED_IDS, "search_vector_" + config, config);
+
+        Query selectQuery = entityManager.createNativeQuery("SELECT e.* FROM eco_news e "
+            + "WHERE e.id IN (" + matchedIds + ") "
+            + "ORDER BY ts_rank(e.search_vector_" + config + ", to_tsquery('" + config + "', :query)) DESC, "
+            + "e.id DESC", EcoNews.class)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize());
+        Query countQuery = entityManager.createNativeQuery("SELECT count(*) FROM (" + matchedIds + ") matched");
+        for (Query q : List.of(selectQuery, countQuery)) {
+            q.setParameter("query", query).setParameter("languageCode", language)
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, AppConstant.SEARCH_QUERY_TIMEOUT_MILLIS);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<EcoNews> resultList = selectQuery.getResultList();
+        long total = ((Number) countQuery.getSingleResult()).longValue();
+        return new PageImpl<>(resultList, pageable, total);
+    }
+
+    /**
+     * Builds {@code tsquery} that matches any word of the text by prefix. Only
+     * letters and digits are kept, so the result is always a valid query.
+     */
+    static String toPrefixQuery(String searchingText) {
+        return Arrays.stream(searchingText.split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> !word.isEmpty())
+            .map(word -> word.toLowerCase(Locale.ROOT) + ":*")
+            .collect(Collectors.joining(" | "));
+    }
+}
@@ -0,0 +1,125 @@
+package greencity.repository;
+
+import greencity.entity.EcoNews;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+/**
+ * Repository that toggles likes and dislikes of {@link EcoNews} row by row and
+ * keeps denormalized reaction counters on the {@code eco_news} table, so the
+ * whole set of users who reacted never has to be loaded.
+ */
+@Repository
+public interface EcoNewsReactionRepo extends org.springframework.data.repository.Repository<EcoNews, Long> {
+    /**
+     * Method adds like of user to eco news if it is not present yet.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return amount of inserted rows, 0 if like already exists.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO eco_news_users_likes (eco_news_id, users_id) "
+        + "VALUES (:ecoNewsId, :userId) ON CONFLICT DO NOTHING")
+    int insertLike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method removes like of user from eco news.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return amount of deleted rows, 0 if there was no like.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM eco_news_users_likes "
+        + "WHERE eco_news_id = :ecoNewsId AND users_id = :userId")
+    int deleteLike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method adds dislike of user to eco news if it is not present yet.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return amount of inserted rows, 0 if dislike already exists.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO eco_news_users_dislikes (eco_news_id, users_id) "
+        + "VALUES (:ecoNewsId, :userId) ON CONFLICT DO NOTHING")
+    int insertDislike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method removes dislike of user from eco news.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return amount of deleted rows, 0 if there was no dislike.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM eco_news_users_dislikes "
+        + "WHERE eco_news_id = :ecoNewsId AND users_id = :userId")
+    int deleteDislike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method atomically shifts like and dislike counters of eco news.
+     *
+     * @param ecoNewsId     {@link Long} eco news id.
+     * @param likesDelta    value added to likes counter.
+     * @param dislikesDelta value added to dislikes counter.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE eco_news "
+        + "SET likes_count = likes_count + :likesDelta, dislikes_count = dislikes_count + :dislikesDelta "
+        + "WHERE id = :ecoNewsId")
+    void updateReactionCounters(@Param("ecoNewsId") Long ecoNewsId,
+        @Param("likesDelta") int likesDelta,
+        @Param("dislikesDelta") int dislikesDelta);
+
+    /**
+     * Method returns amount of likes of eco news.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @return {@link Optional} of likes amount, empty if eco news does not exist.
+     */
+    @Query(nativeQuery = true, value = "SELECT likes_count FROM eco_news WHERE id = :ecoNewsId")
+    Optional<Integer> findLikesCountByEcoNewsId(@Param("ecoNewsId") Long ecoNewsId);
+
+    /**
+     * Method returns amount of dislikes of eco news.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @return {@link Optional} of dislikes amount, empty if eco news does not
+     *         exist.
+     */
+    @Query(nativeQuery = true, value = "SELECT dislikes_count FROM eco_news WHERE id = :ecoNewsId")
+    Optional<Integer> findDislikesCountByEcoNewsId(@Param("ecoNewsId") Long ecoNewsId);
+
+    /**
+     * Method checks if user liked eco news.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return true if like exists.
+     */
+    @Query(nativeQuery = true, value = "SELECT EXISTS (SELECT 1 FROM eco_news_users_likes "
+        + "WHERE eco_news_id = :ecoNewsId AND users_id = :userId)")
+    boolean existsLikeByEcoNewsIdAndUserId(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method recalculates reaction counters of eco news which drifted from the
+     * likes and dislikes tables.
+     *
+     * @return amount of fixed eco news.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE eco_news e "
+        + "SET likes_count = c.likes, dislikes_count = c.dislikes "
+        + "FROM (SELECT en.id, "
+        + "    (SELECT COUNT(*) FROM eco_news_users_likes l WHERE l.eco_news_id = en.id) AS likes, "
+        + "    (SELECT COUNT(*) FROM eco_news_users_dislikes d WHERE d.eco_news_id = en.id) AS dislikes "
+        + "    FROM eco_news en) c "
+        + "WHERE c.id = e.id AND (e.likes_count <> c.likes OR e.dislikes_count <> c.dislikes)")
+    int reconcileReactionCounters();
+}
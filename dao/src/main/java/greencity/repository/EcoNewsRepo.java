@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.Tuple;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,11 +29,11 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
      * Method for deleting eco news by list of ids.
      *
      * @param ids list of deleted eco news ids.
+     * @return amount of deleted eco news.
      */
-
     @Modifying
     @Query("DELETE FROM EcoNews e WHERE e.id IN (?1)")
-    void deleteEcoNewsWithIds(List<Long> ids);
+    int deleteEcoNewsWithIds(List<Long> ids);
 
     /**
      * Method for getting three recommended eco news. Query is based on database
@@ -117,6 +119,18 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
             + " FROM eco_news WHERE author_id = :userId")
     Long getAmountOfPublishedNewsByUserId(@Param("userId") Long id);
 
+    /**
+     * Method for getting amount of published news for each of the given users.
+     *
+     * @param userIds {@link Collection} of user ids.
+     * @return {@link List} of {@link Tuple}s with author id and amount of their
+     *         news, users without news are absent.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT author_id, COUNT(id) FROM eco_news "
+            + "WHERE author_id IN (:userIds) GROUP BY author_id")
+    List<Tuple> countPublishedNewsByUserIds(@Param("userIds") Collection<Long> userIds);
+
     /**
      * Method returns {@link EcoNews} by search query and page.
      *
@@ -0,0 +1,21 @@
+package greencity.repository;
+
+import greencity.entity.EcoNews;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Engine used to search eco news by text. Implementation is chosen with
+ * {@code greencity.search.engine} property.
+ */
+public interface EcoNewsSearchEngine {
+    /**
+     * Method for search eco news by title, text, short info and tag name.
+     *
+     * @param pageable      - page of results.
+     * @param searchingText - text criteria for searching.
+     * @param languageCode  - code of language used for stemming and finding tag.
+     * @return page of found eco news, most relevant first.
+     */
+    Page<EcoNews> find(Pageable pageable, String searchingText, String languageCode);
+}
@@ -1,8 +1,11 @@
 package greencity.repository;
 
+import greencity.constant.AppConstant;
 import greencity.entity.EcoNews;
 import greencity.entity.Tag;
 import greencity.entity.localization.TagTranslation;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -14,8 +17,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Searches eco news with {@code LIKE} predicates. Used when
+ * {@code greencity.search.engine} is set to {@code like}, for databases without
+ * full-text search columns.
+ */
 @Repository
-public class EcoNewsSearchRepo {
+@ConditionalOnProperty(name = "greencity.search.engine", havingValue = "like")
+public class EcoNewsSearchRepo implements EcoNewsSearchEngine {
     private final EntityManager entityManager;
     private final CriteriaBuilder criteriaBuilder;
 
@@ -28,12 +37,9 @@ public class EcoNewsSearchRepo {
     }
 
     /**
-     * Method for search eco news by title,text,short info and tag name.
-     *
-     * @param searchingText - text criteria for searching.
-     * @param languageCode  - code of needed language for finding tag.
-     * @return all finding eco news, their tags and also count of finding eco news.
+     * {@inheritDoc}
      */
+    @Override
     public Page<EcoNews> find(Pageable pageable, String searchingText, String languageCode) {
         CriteriaQuery<EcoNews> criteriaQuery = criteriaBuilder.createQuery(EcoNews.class);
         Root<EcoNews> root = criteriaQuery.from(EcoNews.class);
@@ -44,7 +50,8 @@ public class EcoNewsSearchRepo {
 
         TypedQuery<EcoNews> typedQuery = entityManager.createQuery(criteriaQuery)
                 .setFirstResult(pageable.getPageNumber() * pageable.getPageSize())
-                .setMaxResults(pageable.getPageSize());
+                .setMaxResults(pageable.getPageSize())
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, AppConstant.SEARCH_QUERY_TIMEOUT_MILLIS);
 
         List<EcoNews> resultList = typedQuery.getResultList();
         long total = getEcoNewsCount(criteriaBuilder, searchingText, languageCode);
@@ -59,7 +66,9 @@ public class EcoNewsSearchRepo {
         Predicate countPredicate = getPredicate(criteriaBuilder, searchingText, languageCode, countRoot);
         countQuery.select(criteriaBuilder.count(countRoot)).where(countPredicate);
 
-        return entityManager.createQuery(countQuery).getSingleResult();
+        return entityManager.createQuery(countQuery)
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, AppConstant.SEARCH_QUERY_TIMEOUT_MILLIS)
+                .getSingleResult();
     }
 
     private List<Predicate> formEcoNewsLikePredicate(CriteriaBuilder criteriaBuilder, String searchingText,
@@ -1,15 +1,54 @@
 package greencity.repository;
 
+import greencity.constant.AppConstant;
 import greencity.entity.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.util.List;
-
 public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
+    /**
+     * Method returns page of {@link Event}s whose title, description or tags
+     * contain the query, most relevant first. Wildcards of LIKE in the query are
+     * matched literally.
+     *
+     * @param query    text to search.
+     * @param pageable {@link Pageable}.
+     * @return {@link Page} of {@link Event}.
+     */
+    default Page<Event> searchEvents(String query, Pageable pageable) {
+        String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return searchEventsByPattern(query, "%" + escaped + "%", pageable);
+    }
 
-    @Query("SELECT e FROM Event e WHERE e.title LIKE %:title%")
-    List<Event> findAllByContainingTitle(@Param("title") String title);
+    /**
+     * Method returns page of {@link Event}s whose title, description or tags
+     * match the LIKE pattern, ordered by similarity to the query. Each branch of
+     * the union is served by its own trigram index.
+     *
+     * @param query    text to rank events by.
+     * @param pattern  case-insensitive LIKE pattern.
+     * @param pageable {@link Pageable}.
+     * @return {@link Page} of {@link Event}.
+     */
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = AppConstant.SEARCH_QUERY_TIMEOUT_MILLIS))
+    @Query(nativeQuery = true,
+        value = "SELECT e.* FROM events e "
+            + "WHERE e.id IN (SELECT t.id FROM events t WHERE t.title ILIKE :pattern "
+            + "               UNION SELECT d.id FROM events d WHERE d.description ILIKE :pattern "
+            + "               UNION SELECT et.event_id FROM event_tags et WHERE et.tag ILIKE :pattern) "
+            + "ORDER BY 2 * word_similarity(:query, e.title) + word_similarity(:query, e.description) DESC, "
+            + "         e.id DESC",
+        countQuery = "SELECT COUNT(*) FROM "
+            + "(SELECT t.id FROM events t WHERE t.title ILIKE :pattern "
+            + " UNION SELECT d.id FROM events d WHERE d.description ILIKE :pattern "
+            + " UNION SELECT et.event_id FROM event_tags et WHERE et.tag ILIKE :pattern) matched")
+    Page<Event> searchEventsByPattern(@Param("query") String query, @Param("pattern") String pattern,
+        Pageable pageable);
 }
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.Tuple;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -30,6 +32,22 @@ public interface FriendRepo  extends JpaRepository<User, Long>, JpaSpecification
             + "WHERE uf1.user_id = :userId1 AND uf2.user_id = :userId2")
     List<User> findMutualFriends(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
 
+    /**
+     * Counts mutual friends of the user with each of the given users in one
+     * grouped query.
+     *
+     * @param userId  id of the current user.
+     * @param userIds ids of users to count mutual friends with.
+     * @return {@link List} of {@link Tuple}s with user id and amount of mutual
+     *         friends, users without mutual friends are absent.
+     */
+    @Query(nativeQuery = true, value = "SELECT uf2.user_id, COUNT(DISTINCT uf1.friend_id) "
+            + "FROM users_friends uf1 "
+            + "JOIN users_friends uf2 ON uf1.friend_id = uf2.friend_id "
+            + "WHERE uf1.user_id = :userId AND uf2.user_id IN (:userIds) "
+            + "GROUP BY uf2.user_id")
+    List<Tuple> countMutualFriends(@Param("userId") Long userId, @Param("userIds") Collection<Long> userIds);
+
 
    // @Query("SELECT COUNT(f) FROM User u JOIN u.friends f WHERE u.id = :userId")
     int countUserById(@Param("userId") Long userId);
@@ -10,8 +10,11 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.Tuple;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -193,6 +196,25 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
         @Param("start") ZonedDateTime start,
         @Param("end") ZonedDateTime end);
 
+    /**
+     * Method for finding which of given {@link User}s have {@link HabitAssign}s
+     * created in period between start/end {@link ZonedDateTime} (with not
+     * cancelled and not expired status).
+     *
+     * @param userIds ids of {@link User}s to check.
+     * @param start   {@link ZonedDateTime} start time.
+     * @param end     {@link ZonedDateTime} end time.
+     * @return ids of {@link User}s that have such habit assigns.
+     */
+    @Query(value = "SELECT DISTINCT ha.user.id "
+        + "FROM HabitAssign ha "
+        + "WHERE upper(ha.status) NOT IN ('CANCELLED','EXPIRED') "
+        + "AND ha.user.id IN :userIds "
+        + "AND ha.createDate > :start AND ha.createDate < :end")
+    List<Long> findUserIdsWithMarkedHabitAssignsByPeriod(@Param("userIds") Collection<Long> userIds,
+        @Param("start") ZonedDateTime start,
+        @Param("end") ZonedDateTime end);
+
     /**
      * Method to find all inprogress habit assigns on certain {@link LocalDate}.
      *
@@ -253,6 +275,25 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
         + "WHERE upper(ha.status) = 'INPROGRESS'")
     List<HabitAssign> findAllInProgressHabitAssigns();
 
+    /**
+     * Method sets status EXPIRED to a chunk of inprogress habit assigns whose
+     * duration ended before given time. Every call runs in its own transaction,
+     * so already expired chunks stay committed if the job is interrupted, and
+     * rows locked by a concurrent run are skipped.
+     *
+     * @param now       {@link ZonedDateTime} time to compare end of habit
+     *                  assigns with.
+     * @param chunkSize maximum amount of updated habit assigns.
+     * @return amount of updated habit assigns.
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE habit_assign SET status = 'EXPIRED' WHERE id IN ("
+        + "SELECT id FROM habit_assign WHERE upper(status) = 'INPROGRESS' "
+        + "AND create_date + duration * interval '1 day' < :now "
+        + "ORDER BY id LIMIT :chunkSize FOR UPDATE SKIP LOCKED)")
+    int expireInProgressHabitAssigns(@Param("now") ZonedDateTime now, @Param("chunkSize") int chunkSize);
+
     /**
      * Method to find all habit assigns by status.
      * 
@@ -280,6 +321,17 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
         + "FROM HabitAssign ha WHERE ha.habit.id = :habitId AND ha.status='ACQUIRED'")
     Long findAmountOfUsersAcquired(@Param("habitId") Long habitId);
 
+    /**
+     * Method returns amount of users who acquired each of given habits. Every
+     * {@link Tuple} contains habit id and amount of users.
+     *
+     * @param habitIds ids of {@link Habit}s.
+     * @return list of {@link Tuple}.
+     */
+    @Query(value = "SELECT ha.habit.id, count(ha) FROM HabitAssign ha "
+        + "WHERE ha.habit.id IN :habitIds AND ha.status = 'ACQUIRED' GROUP BY ha.habit.id")
+    List<Tuple> countUsersAcquiredByHabitIds(@Param("habitIds") Collection<Long> habitIds);
+
     /**
      * Method to change value progressNotificationHasDisplayed in
      * {@link HabitAssign} to true.
@@ -297,6 +349,20 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
             + "WHERE ha.user.id = :userId AND upper(ha.status) = upper(:status)")
     List<HabitAssign> getHabitAssignByUserIdAndStatus(@Param("userId") Long userId,  @Param("status")String status);
 
+    /**
+     * Method counts {@link HabitAssign}s of each given user grouped by status.
+     *
+     * @param userIds  {@link Collection} of {@link User} ids.
+     * @param statuses {@link HabitAssignStatus}es to count.
+     * @return {@link List} of {@link Tuple}s with user id, status and amount of
+     *         habit assigns.
+     */
+    @Query("SELECT ha.user.id, ha.status, COUNT(ha.id) FROM HabitAssign ha "
+        + "WHERE ha.user.id IN (:userIds) AND ha.status IN (:statuses) "
+        + "GROUP BY ha.user.id, ha.status")
+    List<Tuple> countHabitAssignsByUserIdsAndStatuses(@Param("userIds") Collection<Long> userIds,
+        @Param("statuses") Collection<HabitAssignStatus> statuses);
+
     /** Get all user habits.
      *
      * @param userId The ID of the user.
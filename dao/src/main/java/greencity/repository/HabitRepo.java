@@ -7,7 +7,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.Tuple;
 import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Provides an interface to manage {@link Habit} entity.
@@ -42,4 +45,31 @@ public interface HabitRepo extends JpaRepository<Habit, Long>, JpaSpecificationE
         + "habit_shopping_list_items.shopping_list_item_id = :itemID"
         + " and habit_shopping_list_items.status like 'ACTUAL'")
     void upadateShopingListItemInHabit(@Param("habitID") Long habitID, @Param("itemID") Long itemID);
+
+    /**
+     * Method finds habits by ids and fetches theirs tags and shopping list items.
+     *
+     * @param ids ids of {@link Habit}s
+     * @return list of {@link Habit}
+     */
+    @Query("SELECT DISTINCT h FROM Habit h LEFT JOIN FETCH h.tags LEFT JOIN FETCH h.shoppingListItems "
+        + "WHERE h.id IN :ids")
+    List<Habit> findAllWithTagsAndShoppingListItemsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Method returns catalog cards of habits. Every {@link Tuple} contains habit
+     * id, custom flag, id of creator, amount of users who acquired the habit and
+     * status of current habit assign of user.
+     *
+     * @param ids    ids of {@link Habit}s
+     * @param userId id of current user
+     * @return list of {@link Tuple}
+     */
+    @Query(nativeQuery = true, value = "SELECT h.id AS id, h.is_custom_habit AS is_custom_habit, "
+        + "h.user_id AS creator_id, "
+        + "(SELECT count(*) FROM habit_assign a WHERE a.habit_id = h.id AND a.status = 'ACQUIRED') AS acquired_users, "
+        + "(SELECT ua.status FROM habit_assign ua WHERE ua.habit_id = h.id AND ua.user_id = :userId "
+        + "AND upper(ua.status) NOT IN ('CANCELLED', 'EXPIRED') ORDER BY ua.id DESC LIMIT 1) AS assign_status "
+        + "FROM habits h WHERE h.id IN (:ids)")
+    List<Tuple> findCatalogCards(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
 }
@@ -1,12 +1,16 @@
 package greencity.repository;
 
+import greencity.constant.AppConstant;
 import greencity.entity.Habit;
 import greencity.entity.HabitTranslation;
 import greencity.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
@@ -349,4 +353,22 @@ public interface HabitTranslationRepo extends JpaRepository<HabitTranslation, Lo
      * @author Lilia Mokhnatska
      */
     List<HabitTranslation> findAllByHabit(Habit habit);
+
+    /**
+     * Method searches not custom habits by name or description in given language.
+     * Matching is served by trigram indexes on lowercased name and description.
+     *
+     * @param pageable     {@link Pageable}.
+     * @param query        text to search.
+     * @param languageCode code of language of translations.
+     * @return Pageable of found {@link HabitTranslation}s.
+     */
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = AppConstant.SEARCH_QUERY_TIMEOUT_MILLIS))
+    @Query("SELECT ht FROM HabitTranslation AS ht "
+        + "WHERE ht.language.code = :languageCode AND ht.habit.isCustomHabit = false "
+        + "AND (lower(ht.name) LIKE lower(concat('%', :query, '%')) "
+        + "OR lower(ht.description) LIKE lower(concat('%', :query, '%'))) "
+        + "ORDER BY ht.habit.id")
+    Page<HabitTranslation> searchNotCustomHabits(Pageable pageable, @Param("query") String query,
+        @Param("languageCode") String languageCode);
 }
@@ -0,0 +1,38 @@
+package greencity.repository;
+
+import greencity.entity.OutboundMessage;
+import greencity.enums.OutboundMessageStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboundMessageRepo extends JpaRepository<OutboundMessage, Long> {
+    /**
+     * Method locks and returns pending messages which are due to be sent. Messages
+     * locked by another transaction are skipped.
+     *
+     * @param limit maximum amount of returned messages.
+     * @return list of {@link OutboundMessage} ordered by time of next attempt.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT * FROM outbound_messages WHERE status = 'PENDING' AND next_attempt_at <= now() "
+            + "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED")
+    List<OutboundMessage> findDueForUpdate(@Param("limit") int limit);
+
+    /**
+     * Method deletes messages with given status created before given time.
+     *
+     * @param status {@link OutboundMessageStatus} of deleted messages.
+     * @param before time of creation of the newest deleted message.
+     * @return amount of deleted messages.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboundMessage m WHERE m.status = :status AND m.createDate < :before")
+    int deleteAllByStatusCreatedBefore(@Param("status") OutboundMessageStatus status,
+        @Param("before") ZonedDateTime before);
+}
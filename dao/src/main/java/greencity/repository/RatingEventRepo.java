@@ -0,0 +1,22 @@
+package greencity.repository;
+
+import greencity.entity.RatingEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface RatingEventRepo extends JpaRepository<RatingEvent, Long> {
+    /**
+     * Method locks and returns oldest not applied rating events. Events locked by
+     * another transaction are skipped.
+     *
+     * @param limit maximum amount of returned events.
+     * @return list of {@link RatingEvent} ordered by id.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT * FROM rating_events ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED")
+    List<RatingEvent> findOldestForUpdate(@Param("limit") int limit);
+}
@@ -0,0 +1,65 @@
+package greencity.repository;
+
+import greencity.entity.RatingStatistics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reads rating statistics for export with a database cursor, so only one chunk
+ * of rows is kept in memory at a time.
+ */
+@Repository
+public class RatingStatisticsExportRepo {
+    private final EntityManager entityManager;
+
+    /**
+     * Initialization constructor.
+     */
+    public RatingStatisticsExportRepo(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Method passes every rating statistics matching specification, ordered by
+     * id, to consumer. Must be called inside a transaction.
+     *
+     * @param specification {@link Specification} to filter rating statistics,
+     *                      {@code null} to read all of them.
+     * @param chunkSize     amount of rows fetched from database at once.
+     * @param consumer      {@link Consumer} of read {@link RatingStatistics}.
+     */
+    public void forEach(Specification<RatingStatistics> specification, int chunkSize,
+        Consumer<RatingStatistics> consumer) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RatingStatistics> criteriaQuery = criteriaBuilder.createQuery(RatingStatistics.class);
+        Root<RatingStatistics> root = criteriaQuery.from(RatingStatistics.class);
+        root.fetch("user", JoinType.LEFT);
+        if (specification != null) {
+            criteriaQuery.where(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+        }
+        criteriaQuery.select(root).orderBy(criteriaBuilder.asc(root.get("id")));
+
+        try (Stream<RatingStatistics> stream = entityManager.createQuery(criteriaQuery)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()) {
+            Iterator<RatingStatistics> iterator = stream.iterator();
+            int read = 0;
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++read % chunkSize == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package greencity.repository;
+
+import greencity.entity.RatingStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Inserts {@link RatingStatistics} with batched JDBC statements, which
+ * Hibernate does not do for entities with identity ids.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RatingStatisticsJdbcRepo {
+    private static final String INSERT = "INSERT INTO rating_statistics "
+        + "(create_date, event, points_changed, current_rating, user_id) VALUES (?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 100;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Method inserts all given rating statistics.
+     *
+     * @param ratingStatistics list of {@link RatingStatistics} with user id set.
+     */
+    public void insertAll(List<RatingStatistics> ratingStatistics) {
+        jdbcTemplate.batchUpdate(INSERT, ratingStatistics, BATCH_SIZE, (ps, statistics) -> {
+            ps.setTimestamp(1, Timestamp.from(statistics.getCreateDate().toInstant()));
+            ps.setString(2, statistics.getRatingCalculationEnum().name());
+            ps.setDouble(3, statistics.getPointsChanged());
+            ps.setDouble(4, statistics.getRating());
+            ps.setLong(5, statistics.getUser().getId());
+        });
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -21,9 +22,30 @@ public interface TagsRepo extends JpaRepository<Tag, Long>, JpaSpecificationExec
      * @return list of tags {@link Page}
      * @author Markiyan Derevetskyi
      */
-    @Query(value = "SELECT t FROM Tag t JOIN FETCH t.tagTranslations ORDER BY t.id",
+    @Override
+    default Page<Tag> findAll(Pageable pageable) {
+        return TwoPhasePaging.fetch(findAllIds(pageable), this::findAllWithTranslationsByIds, Tag::getId);
+    }
+
+    /**
+     * Method finds page of ids of all tags.
+     *
+     * @param pageable {@link Pageable}
+     * @return page of ids of {@link Tag}s
+     */
+    @Query(value = "SELECT t.id FROM Tag t ORDER BY t.id",
         countQuery = "SELECT COUNT(t) FROM Tag t")
-    Page<Tag> findAll(Pageable pageable);
+    Page<Long> findAllIds(Pageable pageable);
+
+    /**
+     * Method finds tags by ids and fetches theirs translations with languages.
+     *
+     * @param ids ids of {@link Tag}s
+     * @return list of {@link Tag}
+     */
+    @Query("SELECT DISTINCT t FROM Tag t LEFT JOIN FETCH t.tagTranslations tt LEFT JOIN FETCH tt.language "
+        + "WHERE t.id IN :ids")
+    List<Tag> findAllWithTranslationsByIds(Collection<Long> ids);
 
     /**
      * Method that finds tag by given id.
@@ -67,20 +89,35 @@ public interface TagsRepo extends JpaRepository<Tag, Long>, JpaSpecificationExec
     List<Tag> findAllByTagTranslations(List<String> names, TagType tagType);
 
     /**
-     * Method that search tags by all fields using filter.
+     * Method that search tags by all fields using filter. Ids of tags and
+     * translations are matched exactly when filter is a number.
      *
      * @param pageable {@link Pageable}
      * @param filter   {@link String}
      * @return found tags {@link Page}
      */
-    @Query(value = "SELECT DISTINCT t FROM Tag t LEFT JOIN FETCH t.tagTranslations AS tt "
-        + "WHERE CONCAT(t.id, '') LIKE LOWER(CONCAT(:filter, '')) "
-        + "OR LOWER(CONCAT(t.type, '')) LIKE LOWER(CONCAT('%', :filter, '%'))"
-        + "OR CONCAT(tt.id, '') LIKE LOWER(CONCAT(:filter, '')) "
+    default Page<Tag> filterByAllFields(Pageable pageable, String filter) {
+        long id = filter.matches("\\d{1,18}") ? Long.parseLong(filter) : -1;
+        return TwoPhasePaging.fetch(filterIdsByAllFields(pageable, filter, id),
+            this::findAllWithTranslationsByIds, Tag::getId);
+    }
+
+    /**
+     * Method finds page of ids of tags which match filter by any field.
+     *
+     * @param pageable {@link Pageable}
+     * @param filter   {@link String}
+     * @param id       id of tag or translation, or -1 if filter is not a number
+     * @return page of ids of found {@link Tag}s
+     */
+    @Query(value = "SELECT t.id FROM Tag t "
+        + "WHERE t.id = :id "
+        + "OR LOWER(CONCAT(t.type, '')) LIKE LOWER(CONCAT('%', :filter, '%')) "
+        + "OR EXISTS (SELECT tt.id FROM TagTranslation tt WHERE tt.tag = t AND (tt.id = :id "
         + "OR LOWER(tt.language.code) LIKE LOWER(CONCAT('%', :filter, '%')) "
-        + "OR LOWER(tt.name) LIKE LOWER(CONCAT('%', :filter, '%'))",
-        countQuery = "SELECT COUNT(t) FROM Tag t")
-    Page<Tag> filterByAllFields(Pageable pageable, String filter);
+        + "OR LOWER(tt.name) LIKE LOWER(CONCAT('%', :filter, '%')))) "
+        + "ORDER BY t.id")
+    Page<Long> filterIdsByAllFields(Pageable pageable, String filter, long id);
 
     /**
      * Method that allow you to find list of Tags by type and language code.
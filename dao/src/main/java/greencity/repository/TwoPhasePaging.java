@@ -0,0 +1,44 @@
+package greencity.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Paging of entities which are fetched together with their collections. Ids of
+ * the page are selected in SQL first, then the entities with fetched
+ * collections are loaded for those ids only, so Hibernate does not apply the
+ * page limit to the whole joined result in memory.
+ */
+public final class TwoPhasePaging {
+    private TwoPhasePaging() {
+    }
+
+    /**
+     * Method loads entities of page of ids and keeps order of the ids.
+     *
+     * @param ids         {@link Page} of ids selected in SQL.
+     * @param fetcher     function that loads entities with fetched collections
+     *                    by ids.
+     * @param idExtractor function that returns id of entity.
+     * @param <T>         type of entity.
+     * @param <I>         type of id.
+     * @return {@link Page} of entities.
+     */
+    public static <T, I> Page<T> fetch(Page<I> ids, Function<Collection<I>, List<T>> fetcher,
+        Function<T, I> idExtractor) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        }
+        Map<I, T> byId = new LinkedHashMap<>();
+        ids.forEach(id -> byId.put(id, null));
+        fetcher.apply(ids.getContent()).forEach(entity -> byId.put(idExtractor.apply(entity), entity));
+        List<T> content = byId.values().stream().filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+}
@@ -5,6 +5,7 @@ import greencity.dto.user.UserManagementVO;
 import greencity.dto.user.UserVO;
 import greencity.entity.User;
 import greencity.repository.options.UserFilter;
+import jakarta.persistence.Tuple;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,6 +15,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -112,6 +114,26 @@ public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExe
     @Query(value = "UPDATE User SET eventOrganizerRating=:rate WHERE id=:userId")
     void updateUserEventOrganizerRating(Long userId, Double rate);
 
+    /**
+     * Atomically adds points to user rating.
+     *
+     * @param userId {@link User}'s id
+     * @param points amount of points added to rating
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE User SET rating = coalesce(rating, 0) + :points WHERE id = :userId")
+    void addRating(Long userId, double points);
+
+    /**
+     * Returns ratings of users.
+     *
+     * @param userIds ids of {@link User}s
+     * @return list of {@link Tuple} with user id and rating
+     */
+    @Query(value = "SELECT u.id, u.rating FROM User u WHERE u.id IN :userIds")
+    List<Tuple> findRatingsByIds(Collection<Long> userIds);
+
     /**
      * Retrieves the list of the user's friends (which have INPROGRESS assign to the
      * habit).
@@ -143,5 +165,16 @@ public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExe
         + "UNION (SELECT friend_id FROM users_friends WHERE user_id = :userId and status = 'FRIEND'));")
     List<User> getAllUserFriends(Long userId);
 
+    /**
+     * Method returns ids of all friends of user.
+     *
+     * @param userId {@link User}'s id
+     * @return list of ids of {@link User}'s friends
+     */
+    @Query(nativeQuery = true, value = "SELECT user_id FROM users_friends WHERE friend_id = :userId "
+        + "AND status = 'FRIEND' UNION SELECT friend_id FROM users_friends WHERE user_id = :userId "
+        + "AND status = 'FRIEND'")
+    List<Long> getAllUserFriendIds(Long userId);
+
 
 }
\ No newline at end of file
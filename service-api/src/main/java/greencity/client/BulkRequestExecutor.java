@@ -0,0 +1,101 @@
+package greencity.client;
+
+import greencity.exception.exceptions.BulkRequestException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Splits bulk requests of {@link RestClient} into chunks and sends the chunks
+ * concurrently, so that fan-out to many users takes a few round trips. Chunks
+ * succeed or fail independently; if some of them fail,
+ * {@link BulkRequestException} tells which items were not sent, so that only
+ * they are retried.
+ */
+@Component
+public class BulkRequestExecutor implements DisposableBean {
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    /**
+     * Constructor.
+     */
+    public BulkRequestExecutor(@Value("${greencity.rest-client.bulk.chunk-size:100}") int chunkSize,
+        @Value("${greencity.rest-client.bulk.parallelism:4}") int parallelism) {
+        this.chunkSize = chunkSize;
+        this.executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    /**
+     * Method performs action for every chunk of items and waits for all of them.
+     *
+     * @param items  items to split into chunks.
+     * @param action request sending one chunk.
+     * @throws BulkRequestException with indexes of items of failed chunks.
+     */
+    public <T> void forEachChunk(List<T> items, Consumer<List<T>> action) {
+        mapChunks(items, chunk -> {
+            action.accept(chunk);
+            return List.of();
+        });
+    }
+
+    /**
+     * Method performs request for every chunk of items and joins their results.
+     * All chunks are waited for even if some of them fail.
+     *
+     * @param items  items to split into chunks.
+     * @param action request sending one chunk.
+     * @return results of all chunks in the order of chunks.
+     * @throws BulkRequestException with indexes of items of failed chunks.
+     */
+    public <T, R> List<R> mapChunks(List<T> items, Function<List<T>, List<R>> action) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + chunkSize)));
+        }
+        if (chunks.size() <= 1) {
+            return chunks.isEmpty() ? List.of() : action.apply(chunks.get(0));
+        }
+        List<CompletableFuture<List<R>>> futures = chunks.stream()
+            .map(chunk -> CompletableFuture.supplyAsync(() -> action.apply(chunk), executor))
+            .toList();
+        List<R> results = new ArrayList<>();
+        Set<Integer> failedIndexes = new LinkedHashSet<>();
+        Throwable firstFailure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.addAll(futures.get(i).join());
+            } catch (CompletionException e) {
+                firstFailure = firstFailure == null ? e.getCause() : firstFailure;
+                int from = i * chunkSize;
+                for (int index = from; index < from + chunks.get(i).size(); index++) {
+                    failedIndexes.add(index);
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw new BulkRequestException(failedIndexes.size() + " of " + items.size()
+                + " items were not sent: " + firstFailure.getMessage(), firstFailure, failedIndexes);
+        }
+        return results;
+    }
+
+    /**
+     * Stops executor on shutdown.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -9,6 +9,7 @@ import greencity.dto.eventcomment.EventCommentMessageInfoDto;
 import greencity.dto.user.*;
 import greencity.enums.EmailNotification;
 import greencity.enums.Role;
+import greencity.exception.exceptions.BulkRequestException;
 import greencity.message.EventCommentMessage;
 import greencity.message.SendHabitNotification;
 import greencity.message.SendReportEmailMessage;
@@ -40,6 +41,8 @@ public class RestClient {
     @Value("${greencityuser.server.address}")
     private String greenCityUserServerAddress;
     private final HttpServletRequest httpServletRequest;
+    private final UserLookupCache userLookupCache;
+    private final BulkRequestExecutor bulkRequestExecutor;
     private String greenCityMvpServerAddress;
 
     /**
@@ -90,12 +93,16 @@ public class RestClient {
     }
 
     /**
-     * Method find user by principal.
+     * Method find user by principal. Result is cached in {@link UserLookupCache}.
      *
      * @param email of {@link UserVO}
      * @author Orest Mamchuk
      */
     public UserVO findByEmail(String email) {
+        return userLookupCache.getByEmail(email, this::loadByEmail);
+    }
+
+    private UserVO loadByEmail(String email) {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         UriComponentsBuilder url = UriComponentsBuilder.fromHttpUrl(greenCityUserServerAddress
             + RestTemplateLinks.USER_FIND_BY_EMAIL).queryParam("email", email);
@@ -104,13 +111,18 @@ public class RestClient {
     }
 
     /**
-     * Method that allow you to find {@link UserVO} by Id.
+     * Method that allow you to find {@link UserVO} by Id. Result is cached in
+     * {@link UserLookupCache}.
      *
      * @param id a value of {@link Long}
      * @return {@link UserVO}
      * @author Orest Mamchuk
      */
     public UserVO findById(Long id) {
+        return userLookupCache.getById(id, this::loadById);
+    }
+
+    private UserVO loadById(Long id) {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         return restTemplate.exchange(greenCityUserServerAddress
             + RestTemplateLinks.USER_FIND_BY_ID + RestTemplateLinks.ID + id, HttpMethod.GET, entity, UserVO.class)
@@ -177,6 +189,8 @@ public class RestClient {
         HttpEntity<UserManagementUpdateDto> entity = new HttpEntity<>(updateDto, headers);
         restTemplate.exchange(greenCityUserServerAddress
             + RestTemplateLinks.USER + "/" + userDto.getId(), HttpMethod.PUT, entity, Object.class);
+        userLookupCache.invalidate(userDto.getId());
+        userLookupCache.invalidate(userDto.getEmail());
     }
 
     private UserManagementUpdateDto managementDtoToUpdateDto(UserManagementDto userDto) {
@@ -203,6 +217,7 @@ public class RestClient {
         UserRoleDto userRoleDto = new UserRoleDto(role);
         HttpEntity<UserRoleDto> entity = new HttpEntity<>(userRoleDto, headers);
         restTemplate.exchange(url, HttpMethod.PATCH, entity, Object.class);
+        userLookupCache.invalidate(id);
     }
 
     /**
@@ -222,12 +237,17 @@ public class RestClient {
 
     /**
      * Method that allow you to find not 'DEACTIVATED' {@link UserVO} by email.
+     * Result is cached in {@link UserLookupCache}.
      *
      * @param email - {@link UserVO}'s email
      * @return {@link UserVO}
      * @author Orest Mamchuk
      */
     public Optional<UserVO> findNotDeactivatedByEmail(String email) {
+        return userLookupCache.getNotDeactivatedByEmail(email, this::loadNotDeactivatedByEmail);
+    }
+
+    private Optional<UserVO> loadNotDeactivatedByEmail(String email) {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         UserVO body = restTemplate.exchange(greenCityUserServerAddress
             + RestTemplateLinks.USER_FIND_NOT_DEACTIVATED_BY_EMAIL + RestTemplateLinks.EMAIL
@@ -264,16 +284,22 @@ public class RestClient {
         HttpEntity<List<String>> entity = new HttpEntity<>(userReasons, headers);
         restTemplate.exchange(greenCityUserServerAddress + RestTemplateLinks.USER_DEACTIVATE
             + RestTemplateLinks.ID + userId, HttpMethod.PUT, entity, Object.class);
+        userLookupCache.invalidate(userId);
     }
 
     /**
-     * Method for getting {@link String} user language.
+     * Method for getting {@link String} user language. Result is cached in
+     * {@link UserLookupCache}.
      *
      * @param userId of the searched {@link UserVO}.
      * @return current user language {@link String}.
      * @author Vlad Pikhotskyi
      */
     public String getUserLang(Long userId) {
+        return userLookupCache.getLanguage(userId, this::loadUserLang);
+    }
+
+    private String loadUserLang(Long userId) {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         String body = restTemplate.exchange(greenCityUserServerAddress + RestTemplateLinks.USER_LANG
             + RestTemplateLinks.ID + userId, HttpMethod.GET, entity, String.class).getBody();
@@ -291,6 +317,7 @@ public class RestClient {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         restTemplate.exchange(greenCityUserServerAddress + RestTemplateLinks.USER_ACTIVATE
             + RestTemplateLinks.ID + userId, HttpMethod.PUT, entity, Object.class);
+        userLookupCache.invalidate(userId);
     }
 
     /**
@@ -329,6 +356,7 @@ public class RestClient {
         restTemplate.exchange(greenCityUserServerAddress
             + RestTemplateLinks.USER_DEACTIVATE
             + RestTemplateLinks.ID + listId, HttpMethod.PUT, entity, Long[].class);
+        userLookupCache.invalidate(listId);
     }
 
     /**
@@ -418,6 +446,24 @@ public class RestClient {
             .getBody();
     }
 
+    /**
+     * send list of SendHabitNotification to GreenCityUser in chunks sent
+     * concurrently. Requires {@link RestTemplateLinks#SEND_HABIT_NOTIFICATIONS}
+     * endpoint of GreenCityUser.
+     *
+     * @param notifications with information for sending email to users that
+     *                      haven't marked any habit during some period.
+     * @throws BulkRequestException with indexes of notifications that were not
+     *                              sent.
+     */
+    public void sendHabitNotifications(List<SendHabitNotification> notifications) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        bulkRequestExecutor.forEachChunk(notifications, chunk -> restTemplate.exchange(greenCityUserServerAddress
+            + RestTemplateLinks.SEND_HABIT_NOTIFICATIONS, HttpMethod.POST, new HttpEntity<>(chunk, headers),
+            Object.class));
+    }
+
     /**
      * Method that allow you to save new {@link UserVO}.
      *
@@ -429,6 +475,8 @@ public class RestClient {
         restTemplate.exchange(greenCityUserServerAddress
             + RestTemplateLinks.USER, HttpMethod.POST, entity, Object.class)
             .getBody();
+        userLookupCache.invalidate(userVO.getId());
+        userLookupCache.invalidate(userVO.getEmail());
     }
 
     /**
@@ -444,6 +492,8 @@ public class RestClient {
         restTemplate.exchange(greenCityUserServerAddress
             + RestTemplateLinks.USER, HttpMethod.POST, entity, Object.class)
             .getBody();
+        userLookupCache.invalidate(userVO.getId());
+        userLookupCache.invalidate(userVO.getEmail());
     }
 
     /**
@@ -500,7 +550,8 @@ public class RestClient {
         return token == null ? null : "Bearer " + token;
     }
 
-    public void sendEventCommentNotification(EventCommentMessageInfoDto eventCommentMessageInfoDto) {
+    public void sendEventCommentNotification(EventCommentMessageInfoDto eventCommentMessageInfoDto,
+        String accessToken) {
         String content = """
                 <html>
                     <body>
@@ -521,8 +572,9 @@ public class RestClient {
                 eventCommentMessageInfoDto.getCommentText(),
                 greenCityMvpServerAddress + "/events/" + eventCommentMessageInfoDto.getEventId() + "/comments/" + eventCommentMessageInfoDto.getCommentId()
         );
-        HttpHeaders headers = setHeader();
+        HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(AUTHORIZATION, accessToken);
         HttpEntity<EventCommentMessage> entity = new HttpEntity<>(EventCommentMessage.builder()
                 .title("Your Event was commented")
                 .body(content)
@@ -533,7 +585,43 @@ public class RestClient {
                 + RestTemplateLinks.SEND_EVENT_COMMENT_NOTIFICATION, HttpMethod.POST, entity, Object.class).getBody();
     }
 
-    public void sendMentionedInEventCommentNotification(EventCommentMessageInfoDto eventCommentMessageInfoDto) {
+    public void sendMentionedInEventCommentNotification(EventCommentMessageInfoDto eventCommentMessageInfoDto,
+        String accessToken) {
+        HttpEntity<EventCommentMessage> entity = new HttpEntity<>(
+                mentionedInEventCommentMessage(eventCommentMessageInfoDto), eventCommentHeaders(accessToken));
+        restTemplate.exchange(greenCityUserServerAddress
+                + RestTemplateLinks.SEND_EVENT_COMMENT_NOTIFICATION, HttpMethod.POST, entity, Object.class).getBody();
+    }
+
+    /**
+     * Sends notifications to users mentioned in event comments in chunks sent
+     * concurrently. Requires
+     * {@link RestTemplateLinks#SEND_EVENT_COMMENT_NOTIFICATIONS} endpoint of
+     * GreenCityUser.
+     *
+     * @param eventCommentMessageInfoDtos information about mentions.
+     * @param accessToken                 token of the comment author.
+     * @throws BulkRequestException with indexes of mentions that were not sent.
+     */
+    public void sendMentionedInEventCommentNotifications(List<EventCommentMessageInfoDto> eventCommentMessageInfoDtos,
+        String accessToken) {
+        HttpHeaders headers = eventCommentHeaders(accessToken);
+        List<EventCommentMessage> messages = eventCommentMessageInfoDtos.stream()
+                .map(this::mentionedInEventCommentMessage)
+                .toList();
+        bulkRequestExecutor.forEachChunk(messages, chunk -> restTemplate.exchange(greenCityUserServerAddress
+                + RestTemplateLinks.SEND_EVENT_COMMENT_NOTIFICATIONS, HttpMethod.POST, new HttpEntity<>(chunk, headers),
+                Object.class));
+    }
+
+    private HttpHeaders eventCommentHeaders(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(AUTHORIZATION, accessToken);
+        return headers;
+    }
+
+    private EventCommentMessage mentionedInEventCommentMessage(EventCommentMessageInfoDto eventCommentMessageInfoDto) {
         String content = """
                 <html>
                     <body>
@@ -554,15 +642,10 @@ public class RestClient {
                 eventCommentMessageInfoDto.getCommentText(),
                 greenCityMvpServerAddress + "/events/" + eventCommentMessageInfoDto.getEventId() + "/comments/" + eventCommentMessageInfoDto.getCommentId()
         );
-        HttpHeaders headers = setHeader();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<EventCommentMessage> entity = new HttpEntity<>(EventCommentMessage.builder()
+        return EventCommentMessage.builder()
                 .title("You have been mentioned in comment to Event")
                 .body(content)
                 .email(eventCommentMessageInfoDto.getEmailReceiver())
-                .build(),
-                headers);
-        restTemplate.exchange(greenCityUserServerAddress
-                + RestTemplateLinks.SEND_EVENT_COMMENT_NOTIFICATION, HttpMethod.POST, entity, Object.class).getBody();
+                .build();
     }
 }
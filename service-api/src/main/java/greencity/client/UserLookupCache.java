@@ -0,0 +1,177 @@
+package greencity.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import greencity.dto.cache.CacheStatisticsDto;
+import greencity.dto.user.UserVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of users loaded by {@link RestClient} from GreenCityUser.
+ * Cached {@link UserVO} instances are shared between callers and must be
+ * treated as read-only. Entries of a user are invalidated by {@link RestClient}
+ * after it changes the user. Missing not 'DEACTIVATED' users are not cached,
+ * because such entries can not be found by id of the user.
+ */
+@Slf4j
+@Component
+public class UserLookupCache {
+    private final Cache<String, UserVO> usersByEmail;
+    private final Cache<String, UserVO> notDeactivatedUsersByEmail;
+    private final Cache<Long, UserVO> usersById;
+    private final Cache<Long, String> languagesByUserId;
+
+    /**
+     * Constructor.
+     */
+    public UserLookupCache(@Value("${greencity.rest-client.user-cache.maximum-size:10000}") long maximumSize,
+        @Value("${greencity.rest-client.user-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.usersByEmail = newCache(maximumSize, ttlSeconds);
+        this.notDeactivatedUsersByEmail = newCache(maximumSize, ttlSeconds);
+        this.usersById = newCache(maximumSize, ttlSeconds);
+        this.languagesByUserId = newCache(maximumSize, ttlSeconds);
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Method returns cached user by email or loads it.
+     *
+     * @param email  email of user.
+     * @param loader loads user when it is absent in cache.
+     * @return {@link UserVO}
+     */
+    public UserVO getByEmail(String email, Function<String, UserVO> loader) {
+        return usersByEmail.get(email, loader);
+    }
+
+    /**
+     * Method returns cached not 'DEACTIVATED' user by email or loads it. Only
+     * found users are cached.
+     *
+     * @param email  email of user.
+     * @param loader loads user when it is absent in cache.
+     * @return {@link Optional} of {@link UserVO}
+     */
+    public Optional<UserVO> getNotDeactivatedByEmail(String email, Function<String, Optional<UserVO>> loader) {
+        UserVO cached = notDeactivatedUsersByEmail.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserVO> user = loader.apply(email);
+        user.ifPresent(found -> notDeactivatedUsersByEmail.put(email, found));
+        return user;
+    }
+
+    /**
+     * Method returns cached user by id or loads it.
+     *
+     * @param id     id of user.
+     * @param loader loads user when it is absent in cache.
+     * @return {@link UserVO}
+     */
+    public UserVO getById(Long id, Function<Long, UserVO> loader) {
+        return usersById.get(id, loader);
+    }
+
+    /**
+     * Method returns cached language of user or loads it.
+     *
+     * @param userId id of user.
+     * @param loader loads language when it is absent in cache.
+     * @return language code.
+     */
+    public String getLanguage(Long userId, Function<Long, String> loader) {
+        return languagesByUserId.get(userId, loader);
+    }
+
+    /**
+     * Method removes all cached entries of users.
+     *
+     * @param userIds ids of changed users.
+     */
+    public void invalidate(Collection<Long> userIds) {
+        usersById.invalidateAll(userIds);
+        languagesByUserId.invalidateAll(userIds);
+        usersByEmail.asMap().values().removeIf(user -> userIds.contains(user.getId()));
+        notDeactivatedUsersByEmail.asMap().values().removeIf(user -> userIds.contains(user.getId()));
+    }
+
+    /**
+     * Method removes all cached entries of user.
+     *
+     * @param userId id of changed user.
+     */
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            invalidate(List.of(userId));
+        }
+    }
+
+    /**
+     * Method removes cached entries of user by email.
+     *
+     * @param email email of changed user.
+     */
+    public void invalidate(String email) {
+        if (email != null) {
+            usersByEmail.invalidate(email);
+            notDeactivatedUsersByEmail.invalidate(email);
+        }
+    }
+
+    /**
+     * Method returns hit and miss statistics of every cache.
+     *
+     * @return list of {@link CacheStatisticsDto}.
+     */
+    public List<CacheStatisticsDto> getStatistics() {
+        return Map.of(
+            "usersByEmail", usersByEmail,
+            "notDeactivatedUsersByEmail", notDeactivatedUsersByEmail,
+            "usersById", usersById,
+            "languagesByUserId", languagesByUserId)
+            .entrySet().stream()
+            .map(entry -> toStatistics(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparing(CacheStatisticsDto::getName))
+            .toList();
+    }
+
+    /**
+     * Periodically writes cache statistics to log.
+     */
+    @Scheduled(fixedRateString = "${greencity.rest-client.user-cache.stats-log-rate-millis:300000}")
+    public void logStatistics() {
+        log.info("User lookup cache statistics: {}", getStatistics());
+    }
+
+    private static CacheStatisticsDto toStatistics(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatisticsDto.builder()
+            .name(name)
+            .size(cache.estimatedSize())
+            .hitCount(stats.hitCount())
+            .missCount(stats.missCount())
+            .hitRate(stats.hitRate())
+            .evictionCount(stats.evictionCount())
+            .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000d)
+            .build();
+    }
+}
@@ -12,6 +12,7 @@ public final class AppConstant {
     public static final String AUTHORIZATION = "Authorization";
     public static final String ROLE = "role";
     public static final String DEFAULT_LANGUAGE_CODE = "en";
+    public static final String SEARCH_QUERY_TIMEOUT_MILLIS = "2000";
     public static final Integer MAX_NUMBER_OF_HABIT_ASSIGNS_FOR_USER = 6;
     public static final int MIN_DAYS_DURATION = 7;
     public static final int MAX_DAYS_DURATION = 56;
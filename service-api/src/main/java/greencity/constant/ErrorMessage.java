@@ -80,6 +80,7 @@ public final class ErrorMessage {
     public static final String IMPOSSIBLE_UPDATE_USER_STATUS = "Impossible to update status of admin or moderator";
     public static final String PROFILE_PICTURE_NOT_FOUND_BY_ID = "Profile picture not found by id : ";
     public static final String IMAGE_EXISTS = "Image should be download, PNG or JPEG ";
+    public static final String IMAGE_TOO_LARGE = "Image should not have more pixels than ";
     public static final String OWN_USER_ID = "You can not perform actions with your own id : ";
     public static final String NOT_FOUND_REQUEST = "Not found friend request from user with id: ";
     public static final String NOT_FOUND_ANY_FRIENDS = "Not found any friends by id: ";
@@ -17,6 +17,11 @@ public class RestTemplateLinks {
     public static final String SEARCH_BY = "/user/searchBy";
     public static final String SEND_REPORT = "/email/sendReport";
     public static final String SEND_HABIT_NOTIFICATION = "/email/sendHabitNotification";
+    /**
+     * Bulk endpoint that has to be provided by GreenCityUser before
+     * {@code greencity.outbox.bulk-enabled} is turned on.
+     */
+    public static final String SEND_HABIT_NOTIFICATIONS = "/email/sendHabitNotifications";
     public static final String USER = "/user";
     public static final String USER_FIND_ALL = "user/findAll";
     public static final String USER_FIND_NOT_DEACTIVATED_BY_EMAIL = "/user/findNotDeactivatedByEmail";
@@ -32,6 +37,11 @@ public class RestTemplateLinks {
     public static final String FIND_ALL_REGISTRATION_MONTHS_MAP = "/user/findAllRegistrationMonthsMap";
     public static final String FIND_ALL_USERS_CITIES = "/user/findAllUsersCities";
     public static final String SEND_EVENT_COMMENT_NOTIFICATION = "/email/sendEventCommentNotification";
+    /**
+     * Bulk endpoint that has to be provided by GreenCityUser before
+     * {@code greencity.outbox.bulk-enabled} is turned on.
+     */
+    public static final String SEND_EVENT_COMMENT_NOTIFICATIONS = "/email/sendEventCommentNotifications";
 
     private RestTemplateLinks() {
     }
@@ -0,0 +1,22 @@
+package greencity.dto.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolStatisticsDto {
+    private int leased;
+
+    private int pending;
+
+    private int available;
+
+    private int max;
+
+    private boolean saturated;
+}
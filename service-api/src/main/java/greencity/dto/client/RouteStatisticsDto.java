@@ -0,0 +1,22 @@
+package greencity.dto.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteStatisticsDto {
+    private String route;
+
+    private long requestCount;
+
+    private long errorCount;
+
+    private double averageLatencyMillis;
+
+    private double maxLatencyMillis;
+}
@@ -47,4 +47,8 @@ public class EcoNewsDto {
     private int dislikes;
 
     private int countComments;
+
+    private String imageThumbnailPath;
+
+    private String imageCardPath;
 }
@@ -49,4 +49,8 @@ public class EcoNewsGenericDto {
     private int countComments;
 
     private int countOfEcoNews;
+
+    private String imageThumbnailPath;
+
+    private String imageCardPath;
 }
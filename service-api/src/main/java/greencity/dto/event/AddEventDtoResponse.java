@@ -21,6 +21,10 @@ public class AddEventDtoResponse{
 
     private List<String> imagePaths;
 
+    private List<String> imageThumbnailPaths;
+
+    private List<String> imageCardPaths;
+
     private List<DatesLocationsDto> datesLocations;
 
     private List<String> tags;
@@ -0,0 +1,16 @@
+package greencity.dto.notification;
+
+import greencity.enums.NotificationPushAction;
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@Builder
+public class NotificationPushDto {
+    private NotificationPushAction action;
+    private long notificationId;
+    private NotificationReadDto notification;
+    private long unreadCount;
+}
@@ -19,4 +19,6 @@ public class SearchEventsDto {
     private List<String> tags;
     private String author;
     private List<String> imagePaths;
+    private List<String> imageThumbnailPaths;
+    private List<String> imageCardPaths;
 }
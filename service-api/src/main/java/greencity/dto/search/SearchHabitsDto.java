@@ -0,0 +1,16 @@
+package greencity.dto.search;
+
+import lombok.*;
+
+@Setter
+@Getter
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHabitsDto {
+    private Long id;
+    private String name;
+    private String description;
+    private String image;
+}
@@ -11,7 +11,17 @@ import java.util.List;
 public class SearchResponseDto {
     List<SearchNewsDto> ecoNews;
 
-    Long countOfResults;
-}
+    List<SearchEventsDto> events;
+
+    List<SearchHabitsDto> habits;
+
+    Long countOfEcoNews;
 
+    Long countOfEvents;
 
+    Long countOfHabits;
+
+    Long countOfResults;
+
+    List<String> incompleteTypes;
+}
@@ -20,7 +20,7 @@ import java.util.Set;
 @ToString
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @EqualsAndHashCode
 public class UserVO {
     private Long id;
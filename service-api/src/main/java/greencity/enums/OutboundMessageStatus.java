@@ -0,0 +1,6 @@
+package greencity.enums;
+
+public enum OutboundMessageStatus {
+    PENDING,
+    DEAD
+}
@@ -0,0 +1,9 @@
+package greencity.enums;
+
+public enum OutboundMessageType {
+    ECO_NEWS_CREATED,
+    EVENT_CREATED,
+    EVENT_COMMENTED,
+    MENTIONED_IN_EVENT_COMMENT,
+    HABIT_NOTIFICATION
+}
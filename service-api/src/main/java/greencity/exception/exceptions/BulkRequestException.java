@@ -0,0 +1,25 @@
+package greencity.exception.exceptions;
+
+import lombok.Getter;
+import java.util.Set;
+
+/**
+ * Exception that we get when some chunks of a bulk request failed while the
+ * others were sent.
+ */
+@Getter
+public class BulkRequestException extends RuntimeException {
+    private final transient Set<Integer> failedIndexes;
+
+    /**
+     * Constructor for BulkRequestException.
+     *
+     * @param message       - giving message.
+     * @param cause         - failure of the first failed chunk.
+     * @param failedIndexes - indexes of items of all failed chunks.
+     */
+    public BulkRequestException(String message, Throwable cause, Set<Integer> failedIndexes) {
+        super(message, cause);
+        this.failedIndexes = failedIndexes;
+    }
+}
@@ -0,0 +1,77 @@
+package greencity.security;
+
+import greencity.dto.user.UserVO;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Holds user authenticated for the current request. The user is stored as a
+ * request attribute once during authentication, so it is resolved for
+ * {@link greencity.annotations.CurrentUserId} and {@code @CurrentUser}
+ * parameters without additional database or HTTP lookups, and is discarded
+ * together with the request. A copy of the user is stored, so changes made to
+ * it by a request do not leak into the shared principal cache it comes from.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CurrentUserContext {
+    private static final String ATTRIBUTE = CurrentUserContext.class.getName() + ".USER";
+
+    /**
+     * Method stores copy of authenticated user of the request.
+     *
+     * @param request current request.
+     * @param user    authenticated {@link UserVO}.
+     */
+    public static void set(HttpServletRequest request, UserVO user) {
+        request.setAttribute(ATTRIBUTE, copyOf(user));
+    }
+
+    private static UserVO copyOf(UserVO user) {
+        return user.toBuilder()
+            .userShoppingListItemVOS(copyOf(user.getUserShoppingListItemVOS()))
+            .customShoppingListItemVOS(copyOf(user.getCustomShoppingListItemVOS()))
+            .userFriends(copyOf(user.getUserFriends()))
+            .ecoNewsLiked(copySetOf(user.getEcoNewsLiked()))
+            .ecoNewsCommentsLiked(copySetOf(user.getEcoNewsCommentsLiked()))
+            .build();
+    }
+
+    private static <T> List<T> copyOf(List<T> list) {
+        return list != null ? new ArrayList<>(list) : null;
+    }
+
+    private static <T> Set<T> copySetOf(Collection<T> set) {
+        return set != null ? new LinkedHashSet<>(set) : null;
+    }
+
+    /**
+     * Method returns authenticated user of the request bound to current thread.
+     *
+     * @return {@link Optional} of {@link UserVO}, empty if there is no request or
+     *         it is not authenticated.
+     */
+    public static Optional<UserVO> get() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null ? get(attributes) : Optional.empty();
+    }
+
+    /**
+     * Method returns authenticated user of the given request.
+     *
+     * @param attributes attributes of the request.
+     * @return {@link Optional} of {@link UserVO}, empty if the request is not
+     *         authenticated.
+     */
+    public static Optional<UserVO> get(RequestAttributes attributes) {
+        return Optional.ofNullable((UserVO) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -6,14 +6,12 @@ import com.google.gson.JsonParseException;
 import greencity.dto.user.UserVO;
 import greencity.enums.Role;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import jakarta.servlet.http.HttpServletRequest;
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import static greencity.constant.AppConstant.ROLE;
 
@@ -26,9 +24,11 @@ import static greencity.constant.AppConstant.ROLE;
 @Slf4j
 @Component
 public class JwtTool {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final Integer accessTokenValidTimeInMinutes;
     private final Integer refreshTokenValidTimeInMinutes;
     private final String accessTokenKey;
+    private final JwtVerifier jwtVerifier;
 
     /**
      * Constructor.
@@ -36,10 +36,14 @@ public class JwtTool {
     @Autowired
     public JwtTool(@Value("${accessTokenValidTimeInMinutes}") Integer accessTokenValidTimeInMinutes,
         @Value("${refreshTokenValidTimeInMinutes}") Integer refreshTokenValidTimeInMinutes,
-        @Value("${tokenKey}") String accessTokenKey) {
+        @Value("${tokenKey}") String accessTokenKey,
+        @Value("${greencity.jwt.verified-cache.maximum-size:10000}") long verifiedTokensMaximumSize,
+        @Value("${greencity.jwt.verified-cache.maximum-ttl-seconds:300}") long verifiedTokensMaximumTtlSeconds) {
         this.accessTokenValidTimeInMinutes = accessTokenValidTimeInMinutes;
         this.refreshTokenValidTimeInMinutes = refreshTokenValidTimeInMinutes;
         this.accessTokenKey = accessTokenKey;
+        this.jwtVerifier =
+            new JwtVerifier(verifiedTokensMaximumSize, Duration.ofSeconds(verifiedTokensMaximumTtlSeconds));
     }
 
     /**
@@ -49,19 +53,26 @@ public class JwtTool {
      * @param role  this is role of user.
      */
     public String createAccessToken(String email, Role role) {
+        return createAccessToken(email, role, Duration.ofMinutes(accessTokenValidTimeInMinutes));
+    }
+
+    /**
+     * Method for creating access token with given validity, e.g. a short-lived
+     * token for a request sent on behalf of user by a background job.
+     *
+     * @param email    this is email of user.
+     * @param role     this is role of user.
+     * @param validity time the token is valid for.
+     */
+    public String createAccessToken(String email, Role role, Duration validity) {
         ClaimsBuilder claims = Jwts.claims().subject(email);
         claims.add(ROLE, Collections.singleton(role.name()));
         Date now = new Date();
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(now);
-        calendar.add(Calendar.MINUTE, accessTokenValidTimeInMinutes);
         return Jwts.builder()
                 .claims(claims.build())
                 .issuedAt(now)
-                .expiration(calendar.getTime())
-                .signWith(Keys.hmacShaKeyFor(
-                                accessTokenKey.getBytes(StandardCharsets.UTF_8)),
-                        Jwts.SIG.HS256)
+                .expiration(new Date(now.getTime() + validity.toMillis()))
+                .signWith(jwtVerifier.getKey(accessTokenKey), Jwts.SIG.HS256)
                 .compact();
     }
 
@@ -81,9 +92,7 @@ public class JwtTool {
                 .claims(claims.build())
                 .issuedAt(now)
                 .expiration(calendar.getTime())
-                .signWith(
-                        Keys.hmacShaKeyFor(user.getRefreshTokenKey().getBytes(StandardCharsets.UTF_8)),
-                        Jwts.SIG.HS256)
+                .signWith(jwtVerifier.getKey(user.getRefreshTokenKey()), Jwts.SIG.HS256)
                 .compact();
     }
 
@@ -96,13 +105,13 @@ public class JwtTool {
      * @throws io.jsonwebtoken.ExpiredJwtException - if token is expired.
      */
     public String getEmailOutOfAccessToken(String token) {
-        String[] splitToken = token.split("\\.");
-        Base64.Decoder decoder = Base64.getUrlDecoder();
-        String payload = new String(decoder.decode(splitToken[1]));
-        ObjectMapper objectMapper = new ObjectMapper();
+        int payloadStart = token.indexOf('.') + 1;
+        int payloadEnd = token.indexOf('.', payloadStart);
+        byte[] payload = Base64.getUrlDecoder()
+            .decode(token.substring(payloadStart, payloadEnd < 0 ? token.length() : payloadEnd));
         JsonNode jsonNode;
         try {
-            jsonNode = objectMapper.readTree(payload);
+            jsonNode = OBJECT_MAPPER.readTree(payload);
         } catch (Exception e) {
             throw new JsonParseException("Error parsing JSON payload", e);
         }
@@ -117,9 +126,8 @@ public class JwtTool {
      */
     public boolean isTokenValid(String token, String tokenKey) {
         boolean isValid = false;
-        SecretKey key = Keys.hmacShaKeyFor(tokenKey.getBytes());
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            jwtVerifier.verify(token, tokenKey);
             isValid = true;
         } catch (Exception e) {
             log.info("Given token is not valid: " + e.getMessage());
@@ -127,6 +135,19 @@ public class JwtTool {
         return isValid;
     }
 
+    /**
+     * Returns claims of access token, verifying its signature and expiration
+     * only the first time the token is seen.
+     *
+     * @param token - access token
+     * @return {@link Claims} of the token.
+     * @throws io.jsonwebtoken.JwtException if token is expired, malformed or its
+     *                                      signature is not valid.
+     */
+    public Claims getAccessTokenClaims(String token) {
+        return jwtVerifier.verify(token, accessTokenKey);
+    }
+
     /**
      * Returns access token key.
      *
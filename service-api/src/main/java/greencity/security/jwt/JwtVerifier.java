@@ -0,0 +1,114 @@
+package greencity.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Verifies signed JWT with prebuilt keys and parsers. Claims of already
+ * verified tokens are kept by the SHA-256 digest of the token until the token
+ * expires, so the same bearer token is verified and parsed only once.
+ */
+public class JwtVerifier {
+    private static final int MAXIMUM_SIGNING_KEYS = 1_000;
+    private final Cache<String, SecretKey> keys;
+    private final Cache<String, JwtParser> parsers;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumVerifiedTokens maximum amount of verified tokens kept in
+     *                              memory.
+     * @param maximumTtl            upper bound of time verified token is kept,
+     *                              also used for tokens without expiration.
+     */
+    public JwtVerifier(long maximumVerifiedTokens, Duration maximumTtl) {
+        this.keys = Caffeine.newBuilder().maximumSize(MAXIMUM_SIGNING_KEYS).build();
+        this.parsers = Caffeine.newBuilder().maximumSize(MAXIMUM_SIGNING_KEYS).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(maximumVerifiedTokens)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                    return token.timeToLive(maximumTtl).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime,
+                    long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String digest, VerifiedToken token, long currentTime,
+                    long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Method returns HMAC key built from given token key.
+     *
+     * @param tokenKey key used to sign tokens.
+     * @return {@link SecretKey}
+     */
+    public SecretKey getKey(String tokenKey) {
+        return keys.get(tokenKey, k -> Keys.hmacShaKeyFor(k.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Method verifies signature and expiration of token and returns its claims.
+     *
+     * @param token    signed token.
+     * @param tokenKey key the token must be signed with.
+     * @return {@link Claims} of the token.
+     * @throws io.jsonwebtoken.JwtException if token is expired, malformed or its
+     *                                      signature is not valid.
+     */
+    public Claims verify(String token, String tokenKey) {
+        String digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified != null && verified.tokenKey().equals(tokenKey)) {
+            return verified.claims();
+        }
+        Claims claims = parsers.get(tokenKey, k -> Jwts.parser().verifyWith(getKey(k)).build())
+            .parseSignedClaims(token)
+            .getPayload();
+        verifiedTokens.put(digest, new VerifiedToken(tokenKey, claims));
+        return claims;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private record VerifiedToken(String tokenKey, Claims claims) {
+        Duration timeToLive(Duration maximumTtl) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maximumTtl;
+            }
+            long millisLeft = Math.max(0, expiration.getTime() - System.currentTimeMillis());
+            return Duration.ofMillis(Math.min(millisLeft, maximumTtl.toMillis()));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package greencity.security.service;
+
+import greencity.dto.cache.CacheStatisticsDto;
+import greencity.dto.user.UserVO;
+import java.util.Optional;
+
+/**
+ * Service that keeps authenticated principals for a short time, so that
+ * authentication of every request does not hit the database.
+ */
+public interface PrincipalCacheService {
+    /**
+     * Method returns not 'DEACTIVATED' {@link UserVO} by email, loading it from
+     * the database only when it is absent in cache or its entry has expired.
+     *
+     * @param email token subject.
+     * @return {@link Optional} of found {@link UserVO}.
+     */
+    Optional<UserVO> findNotDeactivatedByEmail(String email);
+
+    /**
+     * Method removes cached principal, used when status or role of user changes.
+     *
+     * @param email email of changed user.
+     */
+    void evict(String email);
+
+    /**
+     * Method returns hit and miss statistics of the cache.
+     *
+     * @return {@link CacheStatisticsDto}.
+     */
+    CacheStatisticsDto getStatistics();
+}
@@ -1,6 +1,7 @@
 package greencity.service;
 
 import org.springframework.web.multipart.MultipartFile;
+import java.util.List;
 
 public interface FileService {
     /**
@@ -11,6 +12,14 @@ public interface FileService {
      **/
     String upload(MultipartFile multipartFile);
 
+    /**
+     * Upload several files. Implementations may upload the files in parallel.
+     *
+     * @param multipartFiles image files to save.
+     * @return public image urls in the order of given files.
+     **/
+    List<String> uploadAll(List<MultipartFile> multipartFiles);
+
     /**
      * Convert string to MultipartFile.
      *
@@ -25,4 +25,8 @@ public interface NotificationService {
     void markAsViewed(long id, long userId);
 
     void markAsUnviewed(long id, long userId);
+
+    void userConnected(long userId);
+
+    void userDisconnected(long userId);
 }
\ No newline at end of file
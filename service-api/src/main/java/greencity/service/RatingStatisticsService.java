@@ -9,6 +9,7 @@ import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
 import greencity.filters.SearchCriteria;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Provides the interface to manage {@link RatingStatisticsVO}.
@@ -33,20 +34,16 @@ public interface RatingStatisticsService {
     PageableAdvancedDto<RatingStatisticsDtoForTables> getRatingStatisticsForManagementByPage(Pageable pageable);
 
     /**
-     * Find {@link RatingStatisticsVO} for management.
+     * Passes {@link RatingStatisticsVO} for export to excel file to consumer one
+     * by one, without loading all of them in memory.
      *
-     * @return a list of {@link RatingStatisticsDto}.
-     * @author Dovganyuk Taras
-     */
-    List<RatingStatisticsDto> getAllRatingStatistics();
-
-    /**
-     * Find {@link RatingStatisticsVO} for export to excel file.
-     *
-     * @return a list of {@link RatingStatisticsDto}.
-     * @author Dovganyuk Taras
+     * @param ratingStatisticsViewDto filters of exported rating statistics,
+     *                                {@code null} to export all of them.
+     * @param consumer                {@link Consumer} of
+     *                                {@link RatingStatisticsDto}.
      */
-    List<RatingStatisticsDto> getFilteredRatingStatisticsForExcel(RatingStatisticsViewDto ratingStatisticsViewDto);
+    void exportRatingStatistics(RatingStatisticsViewDto ratingStatisticsViewDto,
+        Consumer<RatingStatisticsDto> consumer);
 
     /**
      * Find {@link RatingStatisticsVO} for management.
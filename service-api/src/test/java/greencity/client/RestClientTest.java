@@ -5,14 +5,18 @@ import greencity.ModelUtils;
 import greencity.constant.RestTemplateLinks;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.econews.EcoNewsForSendEmailDto;
+import greencity.dto.eventcomment.EventCommentMessageInfoDto;
 import greencity.dto.user.*;
 import greencity.enums.EmailNotification;
+import greencity.exception.exceptions.BulkRequestException;
 import greencity.message.SendHabitNotification;
 import greencity.message.SendReportEmailMessage;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -20,6 +24,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.*;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import jakarta.servlet.http.Cookie;
@@ -28,6 +33,7 @@ import java.util.*;
 
 import static greencity.constant.AppConstant.AUTHORIZATION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,11 +44,20 @@ class RestClientTest {
     private HttpServletRequest httpServletRequest;
     @Mock
     private java.lang.Object Object;
+    @Spy
+    private UserLookupCache userLookupCache = new UserLookupCache(100, 30);
+    @Spy
+    private BulkRequestExecutor bulkRequestExecutor = new BulkRequestExecutor(2, 2);
     @Value("${greencityuser.server.address}")
     private String greenCityUserServerAddress;
     @InjectMocks
     private RestClient restClient;
 
+    @AfterEach
+    void tearDown() {
+        bulkRequestExecutor.destroy();
+    }
+
     @Test
     void findByEmail() {
         String accessToken = "accessToken";
@@ -50,7 +65,7 @@ class RestClientTest {
         headers.set(AUTHORIZATION, accessToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
         UserVO userVO = ModelUtils.getUserVO();
-        RestClient restClient = new RestClient(restTemplate, httpServletRequest);
+        RestClient restClient = new RestClient(restTemplate, httpServletRequest, userLookupCache, bulkRequestExecutor);
         restClient.setGreenCityUserServerAddress("https://www.greencity.com.ua");
         when(httpServletRequest.getHeader(AUTHORIZATION)).thenReturn(accessToken);
         when(restTemplate.exchange("https://www.greencity.com.ua" + RestTemplateLinks.USER_FIND_BY_EMAIL
@@ -60,6 +75,25 @@ class RestClientTest {
         assertEquals(userVO, restClient.findByEmail("taras@gmail.com"));
     }
 
+    @Test
+    void findByEmailIsCachedUntilUserIsChanged() {
+        UserVO userVO = ModelUtils.getUserVO();
+        RestClient restClient = new RestClient(restTemplate, httpServletRequest, userLookupCache, bulkRequestExecutor);
+        restClient.setGreenCityUserServerAddress("https://www.greencity.com.ua");
+        String url = "https://www.greencity.com.ua" + RestTemplateLinks.USER_FIND_BY_EMAIL
+            + RestTemplateLinks.EMAIL + "taras@gmail.com";
+        when(restTemplate.exchange(eq(url), eq(HttpMethod.GET), any(HttpEntity.class), eq(UserVO.class)))
+            .thenReturn(ResponseEntity.ok(userVO));
+
+        assertEquals(userVO, restClient.findByEmail("taras@gmail.com"));
+        assertEquals(userVO, restClient.findByEmail("taras@gmail.com"));
+        restClient.setActivatedStatus(userVO.getId());
+        assertEquals(userVO, restClient.findByEmail("taras@gmail.com"));
+
+        verify(restTemplate, times(2)).exchange(eq(url), eq(HttpMethod.GET), any(HttpEntity.class),
+            eq(UserVO.class));
+    }
+
     @Test
     void findById() {
         UserVO userVO = ModelUtils.getUserVO();
@@ -85,7 +119,7 @@ class RestClientTest {
         List<UserManagementDto> ecoNewsDtos = Collections.singletonList(new UserManagementDto());
         PageableAdvancedDto<UserManagementDto> pageableAdvancedDto =
             new PageableAdvancedDto<>(ecoNewsDtos, 2, 0, 3, 0, true, true, true, true);
-        RestClient restClient = new RestClient(restTemplate, httpServletRequest);
+        RestClient restClient = new RestClient(restTemplate, httpServletRequest, userLookupCache, bulkRequestExecutor);
         restClient.setGreenCityUserServerAddress("https://www.greencity.com.ua");
         when(httpServletRequest.getHeader(AUTHORIZATION)).thenReturn(accessToken);
         when(restTemplate.exchange("https://www.greencity.com.ua"
@@ -196,7 +230,7 @@ class RestClientTest {
         HttpHeaders headers = new HttpHeaders();
         headers.set(AUTHORIZATION, accessToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        RestClient restClient = new RestClient(restTemplate, httpServletRequest);
+        RestClient restClient = new RestClient(restTemplate, httpServletRequest, userLookupCache, bulkRequestExecutor);
         restClient.setGreenCityUserServerAddress("https://www.greencity.com.ua");
         when(httpServletRequest.getHeader(AUTHORIZATION)).thenReturn(accessToken);
         when(restTemplate.exchange("https://www.greencity.com.ua"
@@ -494,4 +528,62 @@ class RestClientTest {
                 .thenReturn(ResponseEntity.status(HttpStatus.OK).body(expected));
         assertEquals(expected, restClient.findAllUsersCities());
     }
+
+    @Test
+    void sendHabitNotificationsSendsChunks() {
+        List<SendHabitNotification> notifications = List.of(new SendHabitNotification("first", "first@gmail.com"),
+            new SendHabitNotification("second", "second@gmail.com"),
+            new SendHabitNotification("third", "third@gmail.com"));
+
+        restClient.sendHabitNotifications(notifications);
+
+        verify(restTemplate).exchange(eq(greenCityUserServerAddress + RestTemplateLinks.SEND_HABIT_NOTIFICATIONS),
+            eq(HttpMethod.POST), argThat(entity -> notifications.subList(0, 2).equals(entity.getBody())),
+            eq(Object.class));
+        verify(restTemplate).exchange(eq(greenCityUserServerAddress + RestTemplateLinks.SEND_HABIT_NOTIFICATIONS),
+            eq(HttpMethod.POST), argThat(entity -> notifications.subList(2, 3).equals(entity.getBody())),
+            eq(Object.class));
+    }
+
+    @Test
+    void sendHabitNotificationsReportsOnlyFailedChunk() {
+        List<SendHabitNotification> notifications = List.of(new SendHabitNotification("first", "first@gmail.com"),
+            new SendHabitNotification("second", "second@gmail.com"),
+            new SendHabitNotification("third", "third@gmail.com"));
+        when(restTemplate.exchange(eq(greenCityUserServerAddress + RestTemplateLinks.SEND_HABIT_NOTIFICATIONS),
+            eq(HttpMethod.POST), any(HttpEntity.class), eq(Object.class))).thenAnswer(invocation -> {
+                if (notifications.subList(2, 3).equals(invocation.<HttpEntity<?>>getArgument(2).getBody())) {
+                    throw new RestClientException("unavailable");
+                }
+                return ResponseEntity.ok().build();
+            });
+
+        BulkRequestException exception = assertThrows(BulkRequestException.class,
+            () -> restClient.sendHabitNotifications(notifications));
+
+        assertEquals(Set.of(2), exception.getFailedIndexes());
+        verify(restTemplate, times(2)).exchange(eq(greenCityUserServerAddress
+            + RestTemplateLinks.SEND_HABIT_NOTIFICATIONS), eq(HttpMethod.POST), any(HttpEntity.class),
+            eq(Object.class));
+    }
+
+    @Test
+    void sendMentionedInEventCommentNotificationsSendsOneRequestPerChunk() {
+        EventCommentMessageInfoDto dto = EventCommentMessageInfoDto.builder()
+            .receiverName("name")
+            .eventName("event")
+            .commentAuthorName("author")
+            .commentCreatedDateTime(java.time.LocalDateTime.now())
+            .commentText("text")
+            .emailReceiver("user@gmail.com")
+            .build();
+
+        restClient.sendMentionedInEventCommentNotifications(List.of(dto, dto), "accessToken");
+
+        verify(restTemplate).exchange(eq(greenCityUserServerAddress
+            + RestTemplateLinks.SEND_EVENT_COMMENT_NOTIFICATIONS), eq(HttpMethod.POST),
+            argThat(entity -> ((List<?>) entity.getBody()).size() == 2
+                && "accessToken".equals(entity.getHeaders().getFirst(AUTHORIZATION))),
+            eq(Object.class));
+    }
 }
@@ -0,0 +1,100 @@
+package greencity.client;
+
+import greencity.dto.cache.CacheStatisticsDto;
+import greencity.dto.user.UserVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserLookupCacheTest {
+    private static final String EMAIL = "taras@gmail.com";
+
+    private final UserLookupCache userLookupCache = new UserLookupCache(100, 30);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void getByEmailLoadsOnceAndReturnsCachedUserTest() {
+        UserVO user = user(1L);
+
+        assertSame(user, userLookupCache.getByEmail(EMAIL, counting(email -> user)));
+        assertSame(user, userLookupCache.getByEmail(EMAIL, counting(email -> user)));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, statisticsOf("usersByEmail").getHitCount());
+        assertEquals(1, statisticsOf("usersByEmail").getMissCount());
+    }
+
+    @Test
+    void getByIdAndLanguageAreInvalidatedByIdTest() {
+        userLookupCache.getById(1L, counting(id -> user(id)));
+        userLookupCache.getLanguage(1L, counting(id -> "ua"));
+
+        userLookupCache.invalidate(1L);
+        userLookupCache.getById(1L, counting(id -> user(id)));
+        userLookupCache.getLanguage(1L, counting(id -> "ua"));
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void usersByEmailAreInvalidatedByIdTest() {
+        userLookupCache.getByEmail(EMAIL, counting(email -> user(1L)));
+        userLookupCache.getNotDeactivatedByEmail(EMAIL, counting(email -> Optional.of(user(1L))));
+
+        userLookupCache.invalidate(List.of(1L, 2L));
+        userLookupCache.getByEmail(EMAIL, counting(email -> user(1L)));
+        userLookupCache.getNotDeactivatedByEmail(EMAIL, counting(email -> Optional.of(user(1L))));
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void usersAreInvalidatedByEmailTest() {
+        userLookupCache.getByEmail(EMAIL, counting(email -> user(1L)));
+        userLookupCache.getNotDeactivatedByEmail(EMAIL, counting(email -> Optional.of(user(1L))));
+
+        userLookupCache.invalidate(EMAIL);
+        userLookupCache.getByEmail(EMAIL, counting(email -> user(1L)));
+        userLookupCache.getNotDeactivatedByEmail(EMAIL, counting(email -> Optional.of(user(1L))));
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void missingNotDeactivatedUserIsNotCachedTest() {
+        UserVO user = user(1L);
+
+        assertTrue(userLookupCache.getNotDeactivatedByEmail(EMAIL, counting(email -> Optional.empty())).isEmpty());
+        assertEquals(Optional.of(user),
+            userLookupCache.getNotDeactivatedByEmail(EMAIL, counting(email -> Optional.of(user))));
+        assertEquals(Optional.of(user),
+            userLookupCache.getNotDeactivatedByEmail(EMAIL, counting(email -> Optional.empty())));
+
+        assertEquals(2, loads.get());
+    }
+
+    private CacheStatisticsDto statisticsOf(String name) {
+        return userLookupCache.getStatistics().stream()
+            .filter(statistics -> statistics.getName().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private <K, V> Function<K, V> counting(Function<K, V> loader) {
+        return key -> {
+            loads.incrementAndGet();
+            return loader.apply(key);
+        };
+    }
+
+    private static UserVO user(Long id) {
+        return UserVO.builder().id(id).email(EMAIL).build();
+    }
+}
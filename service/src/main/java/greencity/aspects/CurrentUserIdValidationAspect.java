@@ -3,7 +3,9 @@ package greencity.aspects;
 import greencity.annotations.CurrentUserId;
 import greencity.client.RestClient;
 import greencity.constant.ErrorMessage;
+import greencity.dto.user.UserVO;
 import greencity.exception.exceptions.NotCurrentUserException;
+import greencity.security.CurrentUserContext;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -11,8 +13,12 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This aspect is used for method-level validation of current user id parameters
@@ -21,11 +27,14 @@ import java.util.Optional;
 @Aspect
 @Component
 public class CurrentUserIdValidationAspect {
+    private static final int NOT_FOUND = -1;
     private final RestClient restClient;
+    private final Map<Method, Integer> parameterIndexes = new ConcurrentHashMap<>();
 
     /**
      * Constructor with RestClient dependency declaration. RestClient is used for
-     * current user id acquisition.
+     * current user id acquisition when the user is not in
+     * {@link CurrentUserContext}.
      *
      * @param restClient {@link RestClient} is used for current user id acquisition.
      */
@@ -36,52 +45,60 @@ public class CurrentUserIdValidationAspect {
     /**
      * Validates method parameter which is meant to represent currently
      * authenticated user id. Pointcut matches every public method that is located
-     * in the controller classes under greencity.controller package and has at least
-     * one {@link Long}-typed parameter at an arbitrary position.
+     * in the controller classes under greencity.controller package and has a
+     * {@link Long}-typed parameter annotated with {@link CurrentUserId} at an
+     * arbitrary position.
      *
      * @param joinPoint {@link JoinPoint} that is used for annotated parameter
      *                  observation.
-     * @throws NoSuchMethodException    if the method pointed by joinPoint cannot be
-     *                                  found.
-     * @throws IllegalArgumentException if the supplied user id does not match real
-     *                                  authenticated users id.
+     * @throws NotCurrentUserException if the supplied user id does not match real
+     *                                 authenticated users id.
      */
-    @Before("execution(public * greencity.controller..*.*(..,java.lang.Long,..))")
-    public void validateCurrentUserIdParameter(JoinPoint joinPoint) throws NoSuchMethodException {
+    @Before("execution(public * greencity.controller..*.*("
+        + "..,@greencity.annotations.CurrentUserId (java.lang.Long),..))")
+    public void validateCurrentUserIdParameter(JoinPoint joinPoint) {
         getAnnotatedArgument(joinPoint).ifPresent(userId -> {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            Long currentUserId = restClient.findByEmail(authentication.getName()).getId();
+            Long currentUserId = CurrentUserContext.get()
+                .map(UserVO::getId)
+                .orElseGet(this::findCurrentUserId);
             if (!currentUserId.equals(userId)) {
                 throw new NotCurrentUserException(ErrorMessage.NOT_A_CURRENT_USER);
             }
         });
     }
 
+    private Long findCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return restClient.findByEmail(authentication.getName()).getId();
+    }
+
     /**
      * Returns method parameter of type {@link Long} that is annotated with
-     * {@link CurrentUserId}. The position of such a parameter can be arbitrary.
+     * {@link CurrentUserId}. The position of such a parameter can be arbitrary, it
+     * is found once per method and kept in {@link #parameterIndexes}.
      *
      * @param joinPoint is used for annotated parameter observation.
      * @return {@link Optional} containing supplied user id or empty Optional if the
      *         parameter cannot be found.
-     * @throws NoSuchMethodException if the method pointed by joinPoint cannot be
-     *                               found.
      */
-    private Optional<Long> getAnnotatedArgument(JoinPoint joinPoint) throws NoSuchMethodException {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String methodName = signature.getMethod().getName();
-        Class<?>[] parameterTypes = signature.getMethod().getParameterTypes();
-        Annotation[][] annotations = joinPoint.getTarget().getClass()
-            .getMethod(methodName, parameterTypes).getParameterAnnotations();
+    private Optional<Long> getAnnotatedArgument(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Method targetMethod = ClassUtils.getMostSpecificMethod(method, joinPoint.getTarget().getClass());
+        int index = parameterIndexes.computeIfAbsent(targetMethod, CurrentUserIdValidationAspect::findParameterIndex);
+        return index == NOT_FOUND ? Optional.empty() : Optional.ofNullable((Long) joinPoint.getArgs()[index]);
+    }
+
+    private static int findParameterIndex(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Annotation[][] annotations = method.getParameterAnnotations();
         for (int i = 0; i < annotations.length; i++) {
-            Annotation[] parameterAnnotations = annotations[i];
-            for (Annotation parameterAnnotation : parameterAnnotations) {
+            for (Annotation parameterAnnotation : annotations[i]) {
                 if (parameterAnnotation.annotationType().equals(CurrentUserId.class)
                     && parameterTypes[i].equals(Long.class)) {
-                    return Optional.of((Long) joinPoint.getArgs()[i]);
+                    return i;
                 }
             }
         }
-        return Optional.empty();
+        return NOT_FOUND;
     }
 }
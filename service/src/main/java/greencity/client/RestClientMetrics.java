@@ -0,0 +1,151 @@
+package greencity.client;
+
+import greencity.dto.client.ConnectionPoolStatisticsDto;
+import greencity.dto.client.RouteStatisticsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Records latency and errors of {@link RestClient} calls per route of
+ * {@link greencity.constant.RestTemplateLinks} and exposes saturation of the
+ * connection pool they are sent through. Both are written to log periodically.
+ */
+@Slf4j
+public class RestClientMetrics implements ClientHttpRequestInterceptor {
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+    private final ConnPoolControl<?> connectionPool;
+    private final long slowRequestNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param connectionPool    pool requests are sent through, {@code null} if the
+     *                          client does not expose its pool.
+     * @param slowRequestMillis latency of request which is logged as slow.
+     */
+    public RestClientMetrics(ConnPoolControl<?> connectionPool, long slowRequestMillis) {
+        this.connectionPool = connectionPool;
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestMillis);
+    }
+
+    /**
+     * Method returns path of request with numeric segments replaced by
+     * {@code {id}}, so that it matches the link it was built from.
+     *
+     * @param uri uri of request.
+     * @return path of the route without leading slash.
+     */
+    public static String routeOf(URI uri) {
+        String path = ID_SEGMENT.matcher(String.valueOf(uri.getPath())).replaceAll("/{id}");
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+        throws IOException {
+        String route = request.getMethod() + " " + routeOf(request.getURI());
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            failed = response.getStatusCode().isError();
+            return response;
+        } finally {
+            long latency = System.nanoTime() - start;
+            routes.computeIfAbsent(route, key -> new RouteMetrics()).record(latency, failed);
+            if (latency >= slowRequestNanos) {
+                log.warn("Slow request {} took {} ms, pool: {}", route, TimeUnit.NANOSECONDS.toMillis(latency),
+                    getPoolStatistics().orElse(null));
+            }
+        }
+    }
+
+    /**
+     * Method returns statistics of every route requested since start.
+     *
+     * @return list of {@link RouteStatisticsDto} sorted by route.
+     */
+    public List<RouteStatisticsDto> getRouteStatistics() {
+        return routes.entrySet().stream()
+            .map(entry -> entry.getValue().toDto(entry.getKey()))
+            .sorted(Comparator.comparing(RouteStatisticsDto::getRoute))
+            .toList();
+    }
+
+    /**
+     * Method returns current state of the connection pool.
+     *
+     * @return {@link ConnectionPoolStatisticsDto}, empty if the pool is not
+     *         exposed by the client.
+     */
+    public Optional<ConnectionPoolStatisticsDto> getPoolStatistics() {
+        if (connectionPool == null) {
+            return Optional.empty();
+        }
+        PoolStats stats = connectionPool.getTotalStats();
+        return Optional.of(ConnectionPoolStatisticsDto.builder()
+            .leased(stats.getLeased())
+            .pending(stats.getPending())
+            .available(stats.getAvailable())
+            .max(stats.getMax())
+            .saturated(stats.getPending() > 0 || stats.getLeased() >= stats.getMax())
+            .build());
+    }
+
+    /**
+     * Periodically writes statistics of routes and of the connection pool to log.
+     */
+    @Scheduled(fixedRateString = "${greencity.rest-client.stats-log-rate-millis:300000}")
+    public void logStatistics() {
+        log.info("Rest client statistics: routes: {}, pool: {}", getRouteStatistics(),
+            getPoolStatistics().orElse(null));
+    }
+
+    private static class RouteMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos, boolean failed) {
+            requests.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        RouteStatisticsDto toDto(String route) {
+            long count = requests.sum();
+            return RouteStatisticsDto.builder()
+                .route(route)
+                .requestCount(count)
+                .errorCount(errors.sum())
+                .averageLatencyMillis(count == 0 ? 0 : totalNanos.sum() / (double) count / 1_000_000)
+                .maxLatencyMillis(maxNanos.get() / 1_000_000d)
+                .build();
+        }
+    }
+}
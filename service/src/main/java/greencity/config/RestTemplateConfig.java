@@ -1,17 +1,149 @@
 package greencity.config;
 
+import greencity.client.RestClientMetrics;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Configures {@link RestTemplate} used for calls to GreenCityUser. Requests are
+ * sent through a bounded connection pool, so waiting for a free connection is
+ * limited by {@code greencity.rest-client.connection-request-timeout-millis}
+ * and a slow user service does not hold request threads for long. Response
+ * timeout of separate routes is overridden by
+ * {@code greencity.rest-client.response-timeouts}, e.g.
+ * {@code {'email/addEvent': 20000}}.
+ */
 @Configuration
 public class RestTemplateConfig {
+    @Value("${greencity.rest-client.max-connections:100}")
+    private int maxConnections;
+    @Value("${greencity.rest-client.max-connections-per-route:100}")
+    private int maxConnectionsPerRoute;
+    @Value("${greencity.rest-client.connect-timeout-millis:2000}")
+    private long connectTimeoutMillis;
+    @Value("${greencity.rest-client.connection-request-timeout-millis:1000}")
+    private long connectionRequestTimeoutMillis;
+    @Value("${greencity.rest-client.response-timeout-millis:10000}")
+    private long responseTimeoutMillis;
+    @Value("${greencity.rest-client.keep-alive-millis:30000}")
+    private long keepAliveMillis;
+    @Value("${greencity.rest-client.time-to-live-millis:300000}")
+    private long timeToLiveMillis;
+    @Value("${greencity.rest-client.validate-after-inactivity-millis:2000}")
+    private long validateAfterInactivityMillis;
+    @Value("${greencity.rest-client.slow-request-millis:2000}")
+    private long slowRequestMillis;
+    @Value("${greencity.rest-client.http2:false}")
+    private boolean http2;
+    @Value("#{${greencity.rest-client.response-timeouts:{:}}}")
+    private Map<String, Long> responseTimeouts;
+
+    /**
+     * Pool of connections to GreenCityUser.
+     *
+     * @return {@link PoolingHttpClientConnectionManager}
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager restClientConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMillis))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMillis))
+                .build())
+            .build();
+    }
+
+    /**
+     * Latency and pool metrics of {@link RestTemplate} requests.
+     *
+     * @return {@link RestClientMetrics}
+     */
+    @Bean
+    public RestClientMetrics restClientMetrics(PoolingHttpClientConnectionManager restClientConnectionManager) {
+        return new RestClientMetrics(http2 ? null : restClientConnectionManager, slowRequestMillis);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+    public RestTemplate restTemplate(PoolingHttpClientConnectionManager restClientConnectionManager,
+        RestClientMetrics restClientMetrics) {
+        RestTemplate restTemplate = new RestTemplate(http2
+            ? http2RequestFactory()
+            : pooledRequestFactory(restClientConnectionManager));
+        restTemplate.getInterceptors().add(restClientMetrics);
+        return restTemplate;
+    }
+
+    private ClientHttpRequestFactory pooledRequestFactory(PoolingHttpClientConnectionManager connectionManager) {
+        RequestConfig defaultRequestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+            .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+            .build();
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAliveMillis);
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(defaultRequestConfig)
+            .setKeepAliveStrategy((response, context) -> maxKeepAlive
+                .min(DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context)))
+            .evictExpiredConnections()
+            .evictIdleConnections(maxKeepAlive)
+            .build();
+        Map<String, RequestConfig> routeRequestConfigs = new HashMap<>();
+        responseTimeouts.forEach((route, timeout) -> routeRequestConfigs.put(trimSlash(route),
+            RequestConfig.copy(defaultRequestConfig).setResponseTimeout(Timeout.ofMilliseconds(timeout)).build()));
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            String route = RestClientMetrics.routeOf(uri);
+            for (Map.Entry<String, RequestConfig> entry : routeRequestConfigs.entrySet()) {
+                if (route.endsWith(entry.getKey())) {
+                    HttpClientContext context = HttpClientContext.create();
+                    context.setRequestConfig(entry.getValue());
+                    return context;
+                }
+            }
+            return null;
+        });
+        return requestFactory;
+    }
+
+    private ClientHttpRequestFactory http2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(responseTimeoutMillis));
+        return requestFactory;
+    }
+
+    private static String trimSlash(String route) {
+        return route.startsWith("/") ? route.substring(1) : route;
     }
-}
\ No newline at end of file
+}
@@ -3,18 +3,19 @@ package greencity.config;
 import greencity.client.RestClient;
 import greencity.constant.CacheConstants;
 import greencity.dto.user.UserVO;
-import greencity.entity.HabitAssign;
 import greencity.entity.HabitFactTranslation;
-import greencity.entity.User;
-import greencity.enums.HabitAssignStatus;
-import greencity.message.SendHabitNotification;
+import greencity.repository.EcoNewsReactionRepo;
 import greencity.repository.HabitAssignRepo;
 import greencity.repository.HabitFactTranslationRepo;
 import greencity.repository.RatingStatisticsRepo;
+import greencity.service.EcoNewsStatistics;
+import greencity.service.HabitNotificationSender;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,27 +35,14 @@ import static greencity.enums.FactOfDayStatus.*;
 @EnableScheduling
 @AllArgsConstructor
 public class ScheduleConfig {
+    private static final int EXPIRED_STATUS_CHUNK_SIZE = 1000;
     private final HabitFactTranslationRepo habitFactTranslationRepo;
     private final HabitAssignRepo habitAssignRepo;
     private final RatingStatisticsRepo ratingStatisticsRepo;
+    private final EcoNewsReactionRepo ecoNewsReactionRepo;
+    private final EcoNewsStatistics ecoNewsStatistics;
     private final RestClient restClient;
-
-    /**
-     * Invoke {@link SendHabitNotification} from EmailMessageReceiver to send email
-     * letters to each user that hasn't marked any habit during last 3 days.
-     *
-     * @param users list of potential {@link User} to send notifications.
-     */
-    private void sendHabitNotificationIfNeed(List<UserVO> users) {
-        ZonedDateTime end = ZonedDateTime.now();
-        ZonedDateTime start = end.minusDays(3);
-        for (UserVO user : users) {
-            int count = habitAssignRepo.countMarkedHabitAssignsByUserIdAndPeriod(user.getId(), start, end);
-            if (count == 0) {
-                restClient.sendHabitNotification(new SendHabitNotification(user.getName(), user.getEmail()));
-            }
-        }
-    }
+    private final HabitNotificationSender habitNotificationSender;
 
     /**
      * Every day at 19:00 sends notifications about not marked habits to users with
@@ -65,7 +53,7 @@ public class ScheduleConfig {
     void sendHabitNotificationEveryDay() {
         List<UserVO> users = restClient.findAllByEmailNotification(IMMEDIATELY);
         users.addAll(restClient.findAllByEmailNotification(DAILY));
-        sendHabitNotificationIfNeed(users);
+        habitNotificationSender.send(users);
     }
 
     /**
@@ -75,7 +63,7 @@ public class ScheduleConfig {
     @Scheduled(cron = "0 0 19 * * FRI", zone = "Europe/Kiev")
     void sendHabitNotificationEveryWeek() {
         List<UserVO> users = restClient.findAllByEmailNotification(WEEKLY);
-        sendHabitNotificationIfNeed(users);
+        habitNotificationSender.send(users);
     }
 
     /**
@@ -86,7 +74,7 @@ public class ScheduleConfig {
     @Scheduled(cron = "0 0 19 25 * ?", zone = "Europe/Kiev")
     void sendHabitNotificationEveryMonth() {
         List<UserVO> users = restClient.findAllByEmailNotification(MONTHLY);
-        sendHabitNotificationIfNeed(users);
+        habitNotificationSender.send(users);
     }
 
     /**
@@ -132,21 +120,46 @@ public class ScheduleConfig {
     }
 
     /**
-     * Every day at 00:00 checks all Assigned Habits and if they are timed out set
-     * status EXPIRED.
+     * Every day at 03:00 recalculates likes and dislikes counters of eco news which
+     * drifted from the likes and dislikes tables.
+     */
+    @Scheduled(cron = "0 0 3 * * ?", zone = "Europe/Kiev")
+    @Transactional
+    public void reconcileEcoNewsReactionCounters() {
+        int fixed = ecoNewsReactionRepo.reconcileReactionCounters();
+        if (fixed > 0) {
+            log.info("Reconciled reaction counters of {} eco news", fixed);
+        }
+    }
+
+    /**
+     * Every 10 minutes reloads total amount of eco news, so the in-memory value
+     * does not drift after failed saves or deletes made outside the service.
+     */
+    @Scheduled(cron = "0 */10 * * * ?", zone = "Europe/Kiev")
+    public void reconcileEcoNewsCount() {
+        ecoNewsStatistics.reconcile();
+    }
+
+    /**
+     * Every day at 00:00 and on application start sets status EXPIRED to all
+     * inprogress habit assigns which are timed out. Habit assigns are updated in
+     * chunks, each committed separately, so an interrupted run is finished by the
+     * next one.
      *
      * @author Ostap Mykhaylivskii
      **/
-    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
     @Scheduled(cron = "0 0 0 * * ?", zone = "Europe/Kiev")
     public void setExpiredStatus() {
         ZonedDateTime now = ZonedDateTime.now();
-        List<HabitAssign> habitsInProgress = habitAssignRepo.findAllInProgressHabitAssigns();
-        habitsInProgress.forEach(h -> {
-            if (h.getCreateDate().plusDays(h.getDuration().longValue()).isBefore(now)) {
-                log.info("Set status expired");
-                h.setStatus(HabitAssignStatus.EXPIRED);
-            }
-        });
+        int total = 0;
+        int updated;
+        do {
+            updated = habitAssignRepo.expireInProgressHabitAssigns(now, EXPIRED_STATUS_CHUNK_SIZE);
+            total += updated;
+            log.debug("Set status expired for {} habit assigns, {} in total", updated, total);
+        } while (updated == EXPIRED_STATUS_CHUNK_SIZE);
+        log.info("Set status expired for {} habit assigns", total);
     }
 }
@@ -0,0 +1,232 @@
+package greencity.image;
+
+import greencity.constant.ErrorMessage;
+import greencity.exception.exceptions.BadRequestException;
+import greencity.exception.exceptions.NotSavedException;
+import greencity.service.MultipartFileImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Transcodes uploaded images. An image is decoded once and every
+ * {@link ImageVariant} is written from the decoded pixels as JPEG, so metadata
+ * of the original file is not stored and big originals are not served.
+ * Dimensions are read before decoding: images with more than
+ * {@code greencity.image.max-pixels} pixels are rejected, and big ones are
+ * decoded with subsampling close to the size of the largest variant. EXIF
+ * orientation of JPEG images is applied to the pixels before metadata is
+ * dropped.
+ */
+@Component
+public class ImageProcessor {
+    private static final String FORMAT = "jpeg";
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int LARGEST_VARIANT_SIZE = Arrays.stream(ImageVariant.values())
+        .mapToInt(ImageVariant::getMaxSize)
+        .max()
+        .orElseThrow();
+    private final float quality;
+    private final long maxPixels;
+
+    /**
+     * Constructor.
+     */
+    public ImageProcessor(@Value("${greencity.image.jpeg-quality:0.82}") float quality,
+        @Value("${greencity.image.max-pixels:50000000}") long maxPixels) {
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * Method decodes image and encodes all its variants.
+     *
+     * @param image uploaded image.
+     * @return encoded variants of the image.
+     * @throws BadRequestException if file is not an image in supported format.
+     */
+    public Map<ImageVariant, MultipartFile> process(MultipartFile image) {
+        BufferedImage original = decode(image);
+        String name = UUID.randomUUID().toString();
+        Map<ImageVariant, MultipartFile> variants = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            String fileName = name + "-" + variant.getSuffix() + ".jpg";
+            byte[] content = encode(resize(original, variant.getMaxSize()));
+            variants.put(variant, new MultipartFileImpl(fileName, fileName, CONTENT_TYPE, content));
+        }
+        return variants;
+    }
+
+    private BufferedImage decode(MultipartFile image) {
+        byte[] bytes;
+        try {
+            bytes = image.getBytes();
+        } catch (IOException e) {
+            throw new BadRequestException(ErrorMessage.IMAGE_EXISTS);
+        }
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) {
+                throw new BadRequestException(ErrorMessage.IMAGE_EXISTS);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+                return orient(read(reader), exifOrientation(bytes));
+            } finally {
+                reader.dispose();
+            }
+        } catch (BadRequestException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new BadRequestException(ErrorMessage.IMAGE_EXISTS);
+        }
+    }
+
+    private BufferedImage read(ImageReader reader) throws IOException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxPixels) {
+            throw new BadRequestException(ErrorMessage.IMAGE_TOO_LARGE + maxPixels);
+        }
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = Math.max(1, Math.max(width, height) / LARGEST_VARIANT_SIZE);
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+    }
+
+    /**
+     * Returns EXIF orientation of JPEG image, or 1 if the image has none.
+     */
+    static int exifOrientation(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < 4 || buffer.getShort(0) != (short) 0xFFD8) {
+            return 1;
+        }
+        int offset = 2;
+        while (offset + 4 <= bytes.length && (bytes[offset] & 0xFF) == 0xFF) {
+            int marker = bytes[offset + 1] & 0xFF;
+            int length = buffer.getShort(offset + 2) & 0xFFFF;
+            if (marker == 0xDA || marker == 0xD9) {
+                return 1;
+            }
+            if (marker == 0xE1 && length >= 8 && offset + 2 + length <= bytes.length
+                && "Exif".equals(new String(bytes, offset + 4, 4, StandardCharsets.US_ASCII))) {
+                return tiffOrientation(ByteBuffer.wrap(bytes, offset + 10, length - 8).slice());
+            }
+            offset += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int tiffOrientation(ByteBuffer tiff) {
+        try {
+            tiff.order(tiff.getShort(0) == 0x4949 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            int ifd = tiff.getInt(4);
+            int entries = tiff.getShort(ifd) & 0xFFFF;
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                    int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                    return orientation >= 1 && orientation <= 8 ? orientation : 1;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            return 1;
+        }
+        return 1;
+    }
+
+    /**
+     * Rotates and flips decoded pixels as EXIF orientation requires, so the
+     * image looks the same after its metadata is dropped.
+     */
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private static BufferedImage resize(BufferedImage original, int maxSize) {
+        double scale = Math.min(1d, (double) maxSize / Math.max(original.getWidth(), original.getHeight()));
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encode(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(FORMAT).next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
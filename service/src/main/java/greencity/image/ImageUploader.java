@@ -0,0 +1,65 @@
+package greencity.image;
+
+import greencity.entity.ImageVariants;
+import greencity.service.FileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uploads images through {@link ImageProcessor}: every image is stored as
+ * {@link ImageVariant#FULL}, {@link ImageVariant#CARD} and
+ * {@link ImageVariant#THUMBNAIL} variants, all of them uploaded with one call
+ * of {@link FileService#uploadAll(List)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageUploader {
+    private static final ImageVariant[] VARIANTS = ImageVariant.values();
+    private final ImageProcessor imageProcessor;
+    private final FileService fileService;
+
+    /**
+     * Method uploads variants of image.
+     *
+     * @param image uploaded image.
+     * @return {@link UploadedImage}
+     */
+    public UploadedImage upload(MultipartFile image) {
+        return uploadAll(List.of(image)).get(0);
+    }
+
+    /**
+     * Method uploads variants of images.
+     *
+     * @param images uploaded images.
+     * @return list of {@link UploadedImage} in the order of given images.
+     */
+    public List<UploadedImage> uploadAll(List<MultipartFile> images) {
+        List<MultipartFile> files = new ArrayList<>(images.size() * VARIANTS.length);
+        for (MultipartFile image : images) {
+            Map<ImageVariant, MultipartFile> variants = imageProcessor.process(image);
+            for (ImageVariant variant : VARIANTS) {
+                files.add(variants.get(variant));
+            }
+        }
+        List<String> paths = fileService.uploadAll(files);
+        List<UploadedImage> uploaded = new ArrayList<>(images.size());
+        for (int i = 0; i < paths.size(); i += VARIANTS.length) {
+            Map<ImageVariant, String> variantPaths = new EnumMap<>(ImageVariant.class);
+            for (int j = 0; j < VARIANTS.length; j++) {
+                variantPaths.put(VARIANTS[j], paths.get(i + j));
+            }
+            uploaded.add(new UploadedImage(variantPaths.get(ImageVariant.FULL), ImageVariants.builder()
+                .thumbnailPath(variantPaths.get(ImageVariant.THUMBNAIL))
+                .cardPath(variantPaths.get(ImageVariant.CARD))
+                .build()));
+        }
+        return uploaded;
+    }
+}
@@ -0,0 +1,22 @@
+package greencity.image;
+
+import lombok.Getter;
+
+/**
+ * Sizes an uploaded image is stored in. Every variant is downscaled so that its
+ * longest side is not bigger than max size.
+ */
+@Getter
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 320),
+    CARD("card", 720),
+    FULL("full", 1920);
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,12 @@
+package greencity.image;
+
+import greencity.entity.ImageVariants;
+
+/**
+ * Uploaded image.
+ *
+ * @param path     path of {@link ImageVariant#FULL} variant.
+ * @param variants paths of smaller variants.
+ */
+public record UploadedImage(String path, ImageVariants variants) {
+}
@@ -33,7 +33,9 @@ public class EcoNewsDtoMapper extends AbstractConverter<EcoNews, EcoNewsDto> {
             .content(ecoNews.getText())
             .creationDate(ecoNews.getCreationDate())
             .imagePath(ecoNews.getImagePath())
-            .likes(ecoNews.getUsersLikedNews().size())
+            .imageThumbnailPath(ecoNews.getImageVariants() == null ? null
+                : ecoNews.getImageVariants().getThumbnailPath())
+            .imageCardPath(ecoNews.getImageVariants() == null ? null : ecoNews.getImageVariants().getCardPath())
             .shortInfo(ecoNews.getShortInfo())
             .tags(ecoNews.getTags().stream()
                 .flatMap(t -> t.getTagTranslations().stream())
@@ -43,8 +45,8 @@ public class EcoNewsDtoMapper extends AbstractConverter<EcoNews, EcoNewsDto> {
                 .flatMap(t -> t.getTagTranslations().stream())
                 .filter(t -> t.getLanguage().getCode().equals("ua"))
                 .map(TagTranslation::getName).collect(Collectors.toList()))
-            .likes(ecoNews.getUsersLikedNews().size())
-            .dislikes(ecoNews.getUsersDislikedNews().size())
+            .likes(ecoNews.getLikesCount())
+            .dislikes(ecoNews.getDislikesCount())
             .title(ecoNews.getTitle())
             .countComments(
                 (int) ecoNews.getEcoNewsComments().stream().filter(deleted -> !deleted.isDeleted()).count())
@@ -1,14 +1,7 @@
 package greencity.mapping;
 
 import greencity.exception.exceptions.NotSavedException;
-import java.awt.image.BufferedImage;
-import java.io.*;
-import java.nio.file.Files;
-import javax.imageio.ImageIO;
 import greencity.service.MultipartFileImpl;
-import org.apache.commons.io.IOUtils;
-import org.apache.tomcat.util.http.fileupload.FileItem;
-import org.apache.tomcat.util.http.fileupload.disk.DiskFileItem;
 import org.modelmapper.AbstractConverter;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
@@ -17,10 +10,13 @@ import static org.apache.tomcat.util.codec.binary.Base64.decodeBase64;
 
 /**
  * Class that is used by {@link ModelMapper} to map Base64 encoded image into
- * MultipartFile.
+ * MultipartFile. The image is only decoded from Base64, its pixels are decoded
+ * once by {@link greencity.image.ImageProcessor} when it is uploaded.
  */
 @Component
 public class MultipartBase64ImageMapper extends AbstractConverter<String, MultipartFile> {
+    private static final String DEFAULT_CONTENT_TYPE = "image/png";
+
     /**
      * Method for converting Base64 encoded image into MultipartFile.
      *
@@ -29,24 +25,20 @@ public class MultipartBase64ImageMapper extends AbstractConverter<String, Multip
      */
     @Override
     public MultipartFile convert(String image) {
-        String imageToConvert = image.substring(image.indexOf(',') + 1);
-        File tempFile = new File("tempImage.jpg");
-        byte[] imageByte = decodeBase64(imageToConvert);
-        ByteArrayInputStream bis = new ByteArrayInputStream(imageByte);
-        try {
-            BufferedImage bufferedImage = ImageIO.read(bis);
-            ImageIO.write(bufferedImage, "png", tempFile);
-            FileItem fileItem = new DiskFileItem("mainFile", Files.probeContentType(tempFile.toPath()),
-                    false, tempFile.getName(), (int) tempFile.length(), tempFile.getParentFile());
-            try (InputStream input = new FileInputStream(tempFile);
-                 OutputStream outputStream = fileItem.getOutputStream()) {
-                IOUtils.copy(input, outputStream);
-                outputStream.flush();
-                return new MultipartFileImpl("mainFile", tempFile.getName(),
-                        Files.probeContentType(tempFile.toPath()), Files.readAllBytes(tempFile.toPath()));
-            }
-        } catch (IOException e) {
+        int dataStart = image.indexOf(',') + 1;
+        byte[] imageByte = decodeBase64(image.substring(dataStart));
+        if (imageByte == null || imageByte.length == 0) {
             throw new NotSavedException("Cannot convert to BASE64 image");
         }
+        String contentType = contentType(image.substring(0, dataStart));
+        String fileName = "image." + contentType.substring(contentType.indexOf('/') + 1);
+        return new MultipartFileImpl("mainFile", fileName, contentType, imageByte);
+    }
+
+    private static String contentType(String prefix) {
+        if (prefix.startsWith("data:") && prefix.contains(";")) {
+            return prefix.substring("data:".length(), prefix.indexOf(';'));
+        }
+        return DEFAULT_CONTENT_TYPE;
     }
-}
\ No newline at end of file
+}
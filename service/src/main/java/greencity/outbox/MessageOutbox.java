@@ -0,0 +1,96 @@
+package greencity.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.entity.OutboundMessage;
+import greencity.enums.OutboundMessageStatus;
+import greencity.enums.OutboundMessageType;
+import greencity.enums.Role;
+import greencity.repository.OutboundMessageRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Saves messages to other services into outbox table. Messages are saved in
+ * the transaction of the caller, so they are sent by
+ * {@link OutboundMessageDispatcher} only if the change they are about is
+ * committed, and are not lost on restart.
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageOutbox {
+    private final OutboundMessageRepo outboundMessageRepo;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Method saves message to outbox. Email and role of current user, if any, are
+     * saved with the message as its sender, so that the message is sent on behalf
+     * of the user. Access token of the user is not saved.
+     *
+     * @param type    {@link OutboundMessageType} of message.
+     * @param payload body of message.
+     */
+    @Transactional
+    public void enqueue(OutboundMessageType type, Object payload) {
+        Authentication sender = currentUser();
+        outboundMessageRepo.save(toMessage(type, payload, sender));
+    }
+
+    /**
+     * Method saves messages of the same type to outbox with one batch.
+     *
+     * @param type     {@link OutboundMessageType} of messages.
+     * @param payloads bodies of messages.
+     */
+    @Transactional
+    public void enqueueAll(OutboundMessageType type, List<?> payloads) {
+        Authentication sender = currentUser();
+        outboundMessageRepo.saveAll(payloads.stream()
+            .map(payload -> toMessage(type, payload, sender))
+            .toList());
+    }
+
+    private OutboundMessage toMessage(OutboundMessageType type, Object payload, Authentication sender) {
+        try {
+            return OutboundMessage.builder()
+                .type(type)
+                .payload(objectMapper.writeValueAsString(payload))
+                .senderEmail(sender == null ? null : sender.getName())
+                .senderRole(sender == null ? null : roleOf(sender))
+                .status(OutboundMessageStatus.PENDING)
+                .nextAttemptAt(ZonedDateTime.now())
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Message of type " + type + " can not be serialized", e);
+        }
+    }
+
+    private static Authentication currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication;
+    }
+
+    private static Role roleOf(Authentication authentication) {
+        Set<String> authorities = authentication.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .collect(Collectors.toSet());
+        return Arrays.stream(Role.values())
+            .filter(role -> authorities.contains(role.name()))
+            .findFirst()
+            .orElse(null);
+    }
+}
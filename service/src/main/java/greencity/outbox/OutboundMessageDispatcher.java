@@ -0,0 +1,396 @@
+package greencity.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.client.RestClient;
+import greencity.dto.econews.EcoNewsForSendEmailDto;
+import greencity.dto.event.EventForSendEmailDto;
+import greencity.dto.eventcomment.EventCommentMessageInfoDto;
+import greencity.entity.OutboundMessage;
+import greencity.enums.OutboundMessageStatus;
+import greencity.enums.OutboundMessageType;
+import greencity.enums.Role;
+import greencity.exception.exceptions.BulkRequestException;
+import greencity.message.SendHabitNotification;
+import greencity.repository.OutboundMessageRepo;
+import greencity.security.jwt.JwtTool;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Sends messages saved by {@link MessageOutbox}. Due messages are claimed in
+ * batches with a short transaction that leases them for
+ * {@code greencity.outbox.lease-millis}, are sent by a bounded pool of workers
+ * outside of any transaction at no more than
+ * {@code greencity.outbox.rate-per-second} requests, and the outcome is saved
+ * with a second short transaction. When {@code greencity.outbox.bulk-enabled}
+ * is set, habit notifications and mentions of the same sender are sent with
+ * bulk requests, which need the bulk endpoints of GreenCityUser
+ * ({@link greencity.constant.RestTemplateLinks#SEND_HABIT_NOTIFICATIONS} and
+ * {@link greencity.constant.RestTemplateLinks#SEND_EVENT_COMMENT_NOTIFICATIONS});
+ * otherwise every message is sent with its own request. Only messages of failed
+ * chunks of a bulk request are retried. Sent messages are removed, failed ones
+ * are retried with exponential backoff and are marked as dead after the last
+ * attempt. Messages sent on behalf of a user are authorized with a token of
+ * the sender's role issued at sending time and valid for
+ * {@code greencity.outbox.token-ttl-seconds}, so no credentials are stored in
+ * the outbox. Dispatch runs every {@code greencity.outbox.dispatch-delay-millis}
+ * on its own scheduler thread, so waiting for sends and for the rate limit does
+ * not hold the thread of other scheduled jobs.
+ */
+@Slf4j
+@Component
+public class OutboundMessageDispatcher {
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final Set<OutboundMessageType> BULK_TYPES =
+        EnumSet.of(OutboundMessageType.HABIT_NOTIFICATION, OutboundMessageType.MENTIONED_IN_EVENT_COMMENT);
+    private final OutboundMessageRepo outboundMessageRepo;
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final JwtTool jwtTool;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService scheduler;
+    private final long dispatchDelayMillis;
+    private final Duration tokenTtl;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private final long maxRetryDelayMillis;
+    private final long leaseMillis;
+    private final long minIntervalNanos;
+    private final int deadRetentionDays;
+    private final boolean bulkEnabled;
+    private long nextSendNanos;
+
+    /**
+     * Constructor.
+     */
+    public OutboundMessageDispatcher(OutboundMessageRepo outboundMessageRepo, RestClient restClient,
+        ObjectMapper objectMapper, JwtTool jwtTool, PlatformTransactionManager transactionManager,
+        @Value("${greencity.outbox.workers:4}") int workers,
+        @Value("${greencity.outbox.batch-size:100}") int batchSize,
+        @Value("${greencity.outbox.max-attempts:5}") int maxAttempts,
+        @Value("${greencity.outbox.retry-delay-millis:10000}") long retryDelayMillis,
+        @Value("${greencity.outbox.max-retry-delay-millis:3600000}") long maxRetryDelayMillis,
+        @Value("${greencity.outbox.lease-millis:300000}") long leaseMillis,
+        @Value("${greencity.outbox.rate-per-second:20}") int ratePerSecond,
+        @Value("${greencity.outbox.dead-retention-days:30}") int deadRetentionDays,
+        @Value("${greencity.outbox.bulk-enabled:false}") boolean bulkEnabled,
+        @Value("${greencity.outbox.dispatch-delay-millis:1000}") long dispatchDelayMillis,
+        @Value("${greencity.outbox.token-ttl-seconds:60}") long tokenTtlSeconds) {
+        this.outboundMessageRepo = outboundMessageRepo;
+        this.restClient = restClient;
+        this.objectMapper = objectMapper;
+        this.jwtTool = jwtTool;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = Executors.newFixedThreadPool(workers);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.dispatchDelayMillis = dispatchDelayMillis;
+        this.tokenTtl = Duration.ofSeconds(tokenTtlSeconds);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = retryDelayMillis;
+        this.maxRetryDelayMillis = maxRetryDelayMillis;
+        this.leaseMillis = leaseMillis;
+        this.minIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        this.deadRetentionDays = deadRetentionDays;
+        this.bulkEnabled = bulkEnabled;
+    }
+
+    /**
+     * Starts dispatching messages on the own scheduler thread of the dispatcher
+     * when application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::dispatchScheduled, dispatchDelayMillis, dispatchDelayMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    private void dispatchScheduled() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("Dispatch of outbound messages failed", e);
+        }
+    }
+
+    /**
+     * Method sends due messages from outbox.
+     *
+     * @return {@link DispatchReport} of sent, failed and dead messages.
+     */
+    public DispatchReport dispatch() {
+        long startedAt = System.nanoTime();
+        List<OutboundMessage> messages = claim();
+        if (messages.isEmpty()) {
+            return new DispatchReport(0, 0, 0, 0, Duration.ZERO);
+        }
+        Map<OutboundMessage, CompletableFuture<Exception>> results = new IdentityHashMap<>();
+        Map<List<Object>, List<OutboundMessage>> bulks = new LinkedHashMap<>();
+        for (OutboundMessage message : messages) {
+            if (bulkEnabled && BULK_TYPES.contains(message.getType())) {
+                bulks.computeIfAbsent(Arrays.asList(message.getType(), message.getSenderEmail()),
+                    key -> new ArrayList<>()).add(message);
+            } else {
+                results.put(message, CompletableFuture.supplyAsync(() -> send(message), workers));
+            }
+        }
+        bulks.values().forEach(bulk -> sendAll(bulk, results));
+
+        List<Long> sentIds = new ArrayList<>();
+        List<OutboundMessage> failed = new ArrayList<>();
+        for (OutboundMessage message : messages) {
+            Exception error = results.get(message).join();
+            if (error == null) {
+                sentIds.add(message.getId());
+            } else {
+                registerFailure(message, error);
+                failed.add(message);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            outboundMessageRepo.deleteAllByIdInBatch(sentIds);
+            outboundMessageRepo.saveAll(failed);
+        });
+        int dead = (int) failed.stream()
+            .filter(message -> message.getStatus() == OutboundMessageStatus.DEAD)
+            .count();
+        DispatchReport report = new DispatchReport(messages.size(), sentIds.size(), failed.size() - dead, dead,
+            Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Outbound messages dispatched: {}", report);
+        return report;
+    }
+
+    /**
+     * Locks due messages and postpones them for the lease time, so that they are
+     * not taken by other dispatchers while being sent, and are retried if this one
+     * stops before saving the outcome.
+     */
+    private List<OutboundMessage> claim() {
+        return transactionTemplate.execute(status -> {
+            List<OutboundMessage> messages = outboundMessageRepo.findDueForUpdate(batchSize);
+            if (!messages.isEmpty()) {
+                ZonedDateTime leasedUntil = ZonedDateTime.now().plus(Duration.ofMillis(leaseMillis));
+                messages.forEach(message -> message.setNextAttemptAt(leasedUntil));
+                outboundMessageRepo.saveAll(messages);
+            }
+            return messages;
+        });
+    }
+
+    /**
+     * Method removes dead messages older than
+     * {@code greencity.outbox.dead-retention-days}.
+     *
+     * @return amount of removed messages.
+     */
+    @Scheduled(cron = "${greencity.outbox.dead-purge-cron:0 0 3 * * *}")
+    public int purgeDeadMessages() {
+        ZonedDateTime before = ZonedDateTime.now().minusDays(deadRetentionDays);
+        Integer purged = transactionTemplate.execute(status -> outboundMessageRepo
+            .deleteAllByStatusCreatedBefore(OutboundMessageStatus.DEAD, before));
+        log.info("Purged {} dead outbound messages created before {}", purged, before);
+        return purged == null ? 0 : purged;
+    }
+
+    private Exception send(OutboundMessage message) {
+        try {
+            acquirePermit();
+            deliver(message);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private void acquirePermit() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSendNanos);
+            nextSendNanos = slot + minIntervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Issues short-lived access token of the user the message is sent on behalf
+     * of, with the role the user had when the message was saved.
+     */
+    private String accessTokenOf(OutboundMessage message) {
+        String senderEmail = message.getSenderEmail();
+        if (senderEmail == null) {
+            return null;
+        }
+        Role role = message.getSenderRole() == null ? Role.ROLE_USER : message.getSenderRole();
+        return "Bearer " + jwtTool.createAccessToken(senderEmail, role, tokenTtl);
+    }
+
+    /**
+     * Sends messages of the same type and sender with one bulk call of
+     * {@link RestClient}. Messages with unreadable payload fail separately, and
+     * if only some chunks of the call fail, only their messages fail.
+     */
+    private void sendAll(List<OutboundMessage> bulk, Map<OutboundMessage, CompletableFuture<Exception>> results) {
+        List<OutboundMessage> readable = new ArrayList<>();
+        List<Object> payloads = new ArrayList<>();
+        for (OutboundMessage message : bulk) {
+            try {
+                payloads.add(read(message, payloadType(message.getType())));
+                readable.add(message);
+            } catch (JsonProcessingException e) {
+                results.put(message, CompletableFuture.completedFuture(e));
+            }
+        }
+        if (readable.isEmpty()) {
+            return;
+        }
+        OutboundMessage first = readable.get(0);
+        CompletableFuture<IntFunction<Exception>> outcome = CompletableFuture.supplyAsync(() -> {
+            try {
+                acquirePermit();
+                deliverAll(first.getType(), payloads, accessTokenOf(first));
+                return index -> null;
+            } catch (BulkRequestException e) {
+                return index -> e.getFailedIndexes().contains(index) ? e : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return index -> e;
+            } catch (Exception e) {
+                return index -> e;
+            }
+        }, workers);
+        for (int i = 0; i < readable.size(); i++) {
+            int index = i;
+            results.put(readable.get(i), outcome.thenApply(errorOf -> errorOf.apply(index)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliverAll(OutboundMessageType type, List<?> payloads, String accessToken) {
+        switch (type) {
+            case HABIT_NOTIFICATION -> restClient.sendHabitNotifications((List<SendHabitNotification>) payloads);
+            case MENTIONED_IN_EVENT_COMMENT -> restClient.sendMentionedInEventCommentNotifications(
+                (List<EventCommentMessageInfoDto>) payloads, accessToken);
+            default -> throw new IllegalArgumentException("Messages of type " + type + " are not sent in bulk");
+        }
+    }
+
+    private static Class<?> payloadType(OutboundMessageType type) {
+        return type == OutboundMessageType.HABIT_NOTIFICATION
+            ? SendHabitNotification.class
+            : EventCommentMessageInfoDto.class;
+    }
+
+    private void deliver(OutboundMessage message) throws JsonProcessingException {
+        switch (message.getType()) {
+            case ECO_NEWS_CREATED -> {
+                EcoNewsForSendEmailDto ecoNews = read(message, EcoNewsForSendEmailDto.class);
+                ecoNews.setUnsubscribeToken(accessTokenOf(message));
+                restClient.addEcoNews(ecoNews);
+            }
+            case EVENT_CREATED -> {
+                EventForSendEmailDto event = read(message, EventForSendEmailDto.class);
+                String accessToken = accessTokenOf(message);
+                event.setUnsubscribeToken(accessToken);
+                restClient.addEvent(event, accessToken);
+            }
+            case EVENT_COMMENTED -> restClient.sendEventCommentNotification(
+                read(message, EventCommentMessageInfoDto.class), accessTokenOf(message));
+            case MENTIONED_IN_EVENT_COMMENT -> restClient.sendMentionedInEventCommentNotification(
+                read(message, EventCommentMessageInfoDto.class), accessTokenOf(message));
+            case HABIT_NOTIFICATION -> restClient.sendHabitNotification(read(message, SendHabitNotification.class));
+        }
+    }
+
+    private <T> T read(OutboundMessage message, Class<T> type) throws JsonProcessingException {
+        return objectMapper.readValue(message.getPayload(), type);
+    }
+
+    private void registerFailure(OutboundMessage message, Exception error) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        String errorMessage = String.valueOf(error.getMessage());
+        message.setLastError(errorMessage.length() > MAX_ERROR_LENGTH
+            ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+            : errorMessage);
+        if (attempts >= maxAttempts || error instanceof JsonProcessingException) {
+            message.setStatus(OutboundMessageStatus.DEAD);
+            log.error("Outbound message {} of type {} is dead after {} attempts: {}",
+                message.getId(), message.getType(), attempts, errorMessage);
+        } else {
+            long delay = Math.min(maxRetryDelayMillis, retryDelayMillis << Math.min(attempts - 1, 20));
+            message.setNextAttemptAt(ZonedDateTime.now().plus(Duration.ofMillis(delay)));
+            log.warn("Attempt {} to send outbound message {} of type {} failed: {}",
+                attempts, message.getId(), message.getType(), errorMessage);
+        }
+    }
+
+    /**
+     * Stops scheduler and workers on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        workers.shutdown();
+    }
+
+    /**
+     * Outcome of one dispatch of outbound messages.
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class DispatchReport {
+        private final int claimed;
+        private final int sent;
+        private final int failed;
+        private final int dead;
+        private final Duration duration;
+
+        /**
+         * Method returns amount of messages processed per second.
+         *
+         * @return throughput of the dispatch.
+         */
+        public double getThroughput() {
+            long millis = Math.max(1, duration.toMillis());
+            return claimed * 1000d / millis;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package greencity.rating;
+
+import greencity.entity.RatingEvent;
+import greencity.entity.RatingStatistics;
+import greencity.entity.User;
+import greencity.repository.RatingEventRepo;
+import greencity.repository.RatingStatisticsJdbcRepo;
+import greencity.repository.UserRepo;
+import jakarta.persistence.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies rating events recorded by {@link RatingCalculation} to user ratings.
+ * Events are taken in batches, the rating of every user is changed by one
+ * atomic update per batch and rating statistics are inserted with one batched
+ * statement.
+ */
+@Slf4j
+@Component
+public class RatingEventAggregator {
+    private final RatingEventRepo ratingEventRepo;
+    private final UserRepo userRepo;
+    private final RatingStatisticsJdbcRepo ratingStatisticsJdbcRepo;
+    private final int batchSize;
+
+    /**
+     * Constructor.
+     */
+    public RatingEventAggregator(RatingEventRepo ratingEventRepo, UserRepo userRepo,
+        RatingStatisticsJdbcRepo ratingStatisticsJdbcRepo,
+        @Value("${greencity.rating.aggregation-batch-size:1000}") int batchSize) {
+        this.ratingEventRepo = ratingEventRepo;
+        this.userRepo = userRepo;
+        this.ratingStatisticsJdbcRepo = ratingStatisticsJdbcRepo;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Method applies the oldest not applied rating events.
+     *
+     * @return amount of applied events.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${greencity.rating.aggregation-delay-millis:5000}")
+    public int aggregate() {
+        List<RatingEvent> events = ratingEventRepo.findOldestForUpdate(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<RatingEvent>> eventsByUser = new LinkedHashMap<>();
+        events.forEach(event -> eventsByUser.computeIfAbsent(event.getUserId(), id -> new ArrayList<>()).add(event));
+        Map<Long, Double> pointsByUser = new HashMap<>();
+        eventsByUser.forEach((userId, userEvents) -> {
+            double points = userEvents.stream().mapToDouble(RatingEvent::getPointsChanged).sum();
+            userRepo.addRating(userId, points);
+            pointsByUser.put(userId, points);
+        });
+
+        List<RatingStatistics> statistics = new ArrayList<>(events.size());
+        for (Tuple tuple : userRepo.findRatingsByIds(eventsByUser.keySet())) {
+            Long userId = tuple.get(0, Long.class);
+            User user = User.builder().id(userId).build();
+            double rating = tuple.get(1, Double.class) - pointsByUser.get(userId);
+            for (RatingEvent event : eventsByUser.get(userId)) {
+                rating += event.getPointsChanged();
+                statistics.add(RatingStatistics.builder()
+                    .createDate(event.getCreateDate())
+                    .ratingCalculationEnum(event.getRatingCalculationEnum())
+                    .pointsChanged(event.getPointsChanged())
+                    .rating(rating)
+                    .user(user)
+                    .build());
+            }
+        }
+        ratingStatisticsJdbcRepo.insertAll(statistics);
+        ratingEventRepo.deleteAllByIdInBatch(events.stream().map(RatingEvent::getId).toList());
+        log.debug("Applied {} rating events of {} users", events.size(), eventsByUser.size());
+        return events.size();
+    }
+}
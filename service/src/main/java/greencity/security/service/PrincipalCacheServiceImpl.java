@@ -0,0 +1,87 @@
+package greencity.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import greencity.dto.cache.CacheStatisticsDto;
+import greencity.dto.user.UserVO;
+import greencity.repository.UserRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class PrincipalCacheServiceImpl implements PrincipalCacheService {
+    private static final String CACHE_NAME = "principals";
+    private final UserRepo userRepo;
+    private final ModelMapper modelMapper;
+    private final Cache<String, Optional<UserVO>> principals;
+
+    /**
+     * Constructor.
+     */
+    public PrincipalCacheServiceImpl(UserRepo userRepo, ModelMapper modelMapper,
+        @Value("${greencity.principal.cache.maximum-size:10000}") long maximumSize,
+        @Value("${greencity.principal.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.userRepo = userRepo;
+        this.modelMapper = modelMapper;
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<UserVO> findNotDeactivatedByEmail(String email) {
+        return principals.get(email, this::loadNotDeactivatedByEmail);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(String email) {
+        if (email != null) {
+            principals.invalidate(email);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStatisticsDto getStatistics() {
+        CacheStats stats = principals.stats();
+        return CacheStatisticsDto.builder()
+            .name(CACHE_NAME)
+            .size(principals.estimatedSize())
+            .hitCount(stats.hitCount())
+            .missCount(stats.missCount())
+            .hitRate(stats.hitRate())
+            .evictionCount(stats.evictionCount())
+            .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000d)
+            .build();
+    }
+
+    /**
+     * Periodically writes cache statistics to log.
+     */
+    @Scheduled(fixedRateString = "${greencity.principal.cache.stats-log-rate-millis:300000}")
+    public void logStatistics() {
+        log.info("Principal cache statistics: {}", getStatistics());
+    }
+
+    private Optional<UserVO> loadNotDeactivatedByEmail(String email) {
+        return userRepo.findNotDeactivatedByEmail(email)
+            .map(user -> modelMapper.map(user, UserVO.class));
+    }
+}
@@ -1,39 +1,77 @@
 package greencity.service;
 
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
-import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
 import greencity.constant.ErrorMessage;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.ImageUrlParseException;
 import greencity.exception.exceptions.NotSavedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.env.PropertyResolver;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * {@link FileService} which keeps files in Azure Blob Storage. One container
+ * client is shared by all uploads, so connections to the storage are reused,
+ * and several files are uploaded in parallel by a bounded pool of threads.
+ * When the queue of the pool is full, the calling thread uploads the file
+ * itself, so a burst of uploads slows callers down instead of piling up.
+ */
+@Slf4j
 @Service
+@ConditionalOnProperty(name = "greencity.storage.type", havingValue = "azure", matchIfMissing = true)
 public class AzureCloudStorageService implements FileService {
     private final String connectionString;
     private final String containerName;
     private final ModelMapper modelMapper;
+    private final ExecutorService uploadExecutor;
+    private final ParallelTransferOptions transferOptions;
+    private volatile BlobContainerClient containerClient;
 
     /**
      * Constructor with parameters.
      */
     public AzureCloudStorageService(@Autowired PropertyResolver propertyResolver,
-        ModelMapper modelMapper) {
+        ModelMapper modelMapper,
+        @Value("${greencity.storage.azure.upload-threads:8}") int uploadThreads,
+        @Value("${greencity.storage.azure.upload-queue-capacity:100}") int queueCapacity,
+        @Value("${greencity.storage.azure.block-size-bytes:4194304}") long blockSize,
+        @Value("${greencity.storage.azure.max-concurrency-per-file:4}") int maxConcurrencyPerFile) {
         this.connectionString = propertyResolver.getProperty("azure.connection.string");
         this.containerName = propertyResolver.getProperty("azure.container.name");
         this.modelMapper = modelMapper;
+        this.uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.transferOptions = new ParallelTransferOptions()
+            .setBlockSizeLong(blockSize)
+            .setMaxSingleUploadSizeLong(blockSize)
+            .setMaxConcurrency(maxConcurrencyPerFile);
     }
 
     /**
@@ -44,18 +82,70 @@ public class AzureCloudStorageService implements FileService {
         final String blob = UUID.randomUUID().toString();
         BlobClient client = containerClient()
             .getBlobClient(blob + multipartFile.getOriginalFilename());
-        try {
-            client.upload(new BufferedInputStream(multipartFile.getInputStream()), multipartFile.getSize());
+        try (InputStream inputStream = new BufferedInputStream(multipartFile.getInputStream())) {
+            client.uploadWithResponse(new BlobParallelUploadOptions(inputStream)
+                .setParallelTransferOptions(transferOptions)
+                .setHeaders(new BlobHttpHeaders().setContentType(multipartFile.getContentType())),
+                null, Context.NONE);
         } catch (IOException e) {
             throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
         }
         return client.getBlobUrl();
     }
 
+    /**
+     * {@inheritDoc} Every upload is waited for; if some of them fail, files
+     * which were uploaded are deleted and the first failure is rethrown.
+     */
+    @Override
+    public List<String> uploadAll(List<MultipartFile> multipartFiles) {
+        if (multipartFiles.size() < 2) {
+            return multipartFiles.stream().map(this::upload).toList();
+        }
+        List<CompletableFuture<String>> uploads = multipartFiles.stream()
+            .map(file -> CompletableFuture.supplyAsync(() -> upload(file), uploadExecutor))
+            .toList();
+        List<String> urls = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<String> upload : uploads) {
+            try {
+                urls.add(upload.join());
+            } catch (CompletionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            }
+        }
+        if (failure == null) {
+            return urls;
+        }
+        urls.forEach(this::deleteQuietly);
+        if (failure instanceof RuntimeException cause) {
+            throw cause;
+        }
+        throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
+    }
+
+    private void deleteQuietly(String url) {
+        try {
+            delete(url);
+        } catch (RuntimeException e) {
+            log.warn("Uploaded file {} was not deleted after failed upload of other files", url, e);
+        }
+    }
+
     private BlobContainerClient containerClient() {
-        BlobServiceClient serviceClient = new BlobServiceClientBuilder()
-            .connectionString(connectionString).buildClient();
-        return serviceClient.getBlobContainerClient(containerName);
+        BlobContainerClient client = containerClient;
+        if (client == null) {
+            synchronized (this) {
+                client = containerClient;
+                if (client == null) {
+                    client = new BlobServiceClientBuilder()
+                        .connectionString(connectionString).buildClient()
+                        .getBlobContainerClient(containerName);
+                    containerClient = client;
+                }
+            }
+        }
+        return client;
     }
 
     /**
@@ -85,4 +175,12 @@ public class AzureCloudStorageService implements FileService {
             client.delete();
         }
     }
+
+    /**
+     * Stops upload threads on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
 }
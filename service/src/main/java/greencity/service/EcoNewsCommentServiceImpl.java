@@ -15,6 +15,7 @@ import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
 import greencity.repository.EcoNewsCommentRepo;
 import greencity.repository.EcoNewsRepo;
+import jakarta.persistence.Tuple;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
@@ -22,11 +23,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
 import java.util.stream.Collectors;
-import static greencity.constant.AppConstant.AUTHORIZATION;
 
 @Service
 @AllArgsConstructor
@@ -36,7 +37,6 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     private ModelMapper modelMapper;
     private final SimpMessagingTemplate messagingTemplate;
     private final greencity.rating.RatingCalculation ratingCalculation;
-    private final HttpServletRequest httpServletRequest;
     private final EcoNewsRepo ecoNewsRepo;
 
     /**
@@ -68,9 +68,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
                 throw new BadRequestException(ErrorMessage.CANNOT_REPLY_THE_REPLY);
             }
         }
-        String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO);
         return modelMapper.map(ecoNewsCommentRepo.save(ecoNewsComment), AddEcoNewsCommentDtoResponse.class);
     }
 
@@ -87,19 +85,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         ecoNewsService.findById(ecoNewsId);
         Page<EcoNewsComment> pages = ecoNewsCommentRepo.findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(
             pageable, ecoNewsId);
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(userVO.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .map(comment -> {
-                comment.setReplies(ecoNewsCommentRepo.countByParentCommentId(comment.getId()));
-                return comment;
-            })
-            .collect(Collectors.toList());
+        List<EcoNewsCommentDto> ecoNewsCommentDtos = buildCommentDtos(pages.getContent(), userVO.getId(), true);
 
         return new PageableDto<>(
             ecoNewsCommentDtos,
@@ -120,15 +106,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     public PageableDto<EcoNewsCommentDto> findAllReplies(Pageable pageable, Long parentCommentId, UserVO userVO) {
         Page<EcoNewsComment> pages = ecoNewsCommentRepo
             .findAllByParentCommentIdOrderByCreatedDateDesc(pageable, parentCommentId);
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(userVO.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .collect(Collectors.toList());
+        List<EcoNewsCommentDto> ecoNewsCommentDtos = buildCommentDtos(pages.getContent(), userVO.getId(), false);
 
         return new PageableDto<>(
             ecoNewsCommentDtos,
@@ -156,9 +134,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             comment.getComments().forEach(c -> c.setDeleted(true));
         }
         comment.setDeleted(true);
-        String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_COMMENT, userVO, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_COMMENT, userVO);
         ecoNewsCommentRepo.save(comment);
     }
 
@@ -269,20 +245,8 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         Page<EcoNewsComment> pages =
             ecoNewsCommentRepo
                 .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageable, ecoNewsId);
-        UserVO user = userVO == null ? UserVO.builder().build() : userVO;
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(user.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .map(comment -> {
-                comment.setReplies(ecoNewsCommentRepo.countByParentCommentId(comment.getId()));
-                return comment;
-            })
-            .collect(Collectors.toList());
+        Long userId = userVO == null ? null : userVO.getId();
+        List<EcoNewsCommentDto> ecoNewsCommentDtos = buildCommentDtos(pages.getContent(), userId, true);
 
         return new PageableDto<>(
             ecoNewsCommentDtos,
@@ -304,16 +268,8 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     public PageableDto<EcoNewsCommentDto> findAllActiveReplies(Pageable pageable, Long parentCommentId, UserVO userVO) {
         Page<EcoNewsComment> pages = ecoNewsCommentRepo
             .findAllByParentCommentIdAndDeletedFalseOrderByCreatedDateDesc(pageable, parentCommentId);
-        UserVO user = userVO == null ? UserVO.builder().build() : userVO;
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(user.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .collect(Collectors.toList());
+        Long userId = userVO == null ? null : userVO.getId();
+        List<EcoNewsCommentDto> ecoNewsCommentDtos = buildCommentDtos(pages.getContent(), userId, false);
 
         return new PageableDto<>(
             ecoNewsCommentDtos,
@@ -321,4 +277,41 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             pages.getPageable().getPageNumber(),
             pages.getTotalPages());
     }
+
+    /**
+     * Method maps page of comments to dtos. Likes of the comments and, if needed,
+     * counts of their replies are loaded by grouped queries for the whole page.
+     *
+     * @param comments     comments of page.
+     * @param userId       id of current {@link User}, may be {@code null}.
+     * @param countReplies whether counts of replies are loaded.
+     * @return list of {@link EcoNewsCommentDto}.
+     */
+    private List<EcoNewsCommentDto> buildCommentDtos(List<EcoNewsComment> comments, Long userId,
+        boolean countReplies) {
+        if (comments.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = comments.stream().map(EcoNewsComment::getId).collect(Collectors.toList());
+        Map<Long, Tuple> likes = new HashMap<>();
+        ecoNewsCommentRepo.countLikesByCommentIds(ids, userId)
+            .forEach(tuple -> likes.put(tuple.get(0, Long.class), tuple));
+        Map<Long, Long> replies = new HashMap<>();
+        if (countReplies) {
+            ecoNewsCommentRepo.countRepliesByParentCommentIds(ids)
+                .forEach(tuple -> replies.put(tuple.get(0, Long.class), tuple.get(1, Long.class)));
+        }
+        List<EcoNewsCommentDto> dtos = new ArrayList<>(comments.size());
+        for (EcoNewsComment comment : comments) {
+            Tuple commentLikes = likes.get(comment.getId());
+            comment.setLikesCount(commentLikes == null ? 0 : ((Number) commentLikes.get(1)).intValue());
+            comment.setCurrentUserLiked(commentLikes != null && ((Number) commentLikes.get(2)).longValue() > 0);
+            EcoNewsCommentDto dto = modelMapper.map(comment, EcoNewsCommentDto.class);
+            if (countReplies) {
+                dto.setReplies(replies.getOrDefault(comment.getId(), 0L).intValue());
+            }
+            dtos.add(dto);
+        }
+        return dtos;
+    }
 }
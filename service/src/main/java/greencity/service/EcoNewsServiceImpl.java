@@ -17,6 +17,7 @@ import greencity.dto.user.UserVO;
 import greencity.entity.*;
 import greencity.entity.EcoNews_;
 import greencity.entity.localization.TagTranslation;
+import greencity.enums.OutboundMessageType;
 import greencity.enums.Role;
 import greencity.enums.TagType;
 import greencity.exception.exceptions.BadRequestException;
@@ -25,8 +26,12 @@ import greencity.exception.exceptions.NotSavedException;
 import greencity.exception.exceptions.UnsupportedSortException;
 import greencity.filters.EcoNewsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.image.ImageUploader;
+import greencity.image.UploadedImage;
+import greencity.outbox.MessageOutbox;
+import greencity.repository.EcoNewsReactionRepo;
 import greencity.repository.EcoNewsRepo;
-import greencity.repository.EcoNewsSearchRepo;
+import greencity.repository.EcoNewsSearchEngine;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
@@ -41,11 +46,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import jakarta.servlet.http.HttpServletRequest;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import static greencity.constant.AppConstant.AUTHORIZATION;
 
 @Service
 @EnableCaching
@@ -57,8 +59,11 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     private final TagsService tagService;
     private final FileService fileService;
     private final greencity.rating.RatingCalculation ratingCalculation;
-    private final HttpServletRequest httpServletRequest;
-    private final EcoNewsSearchRepo ecoNewsSearchRepo;
+    private final EcoNewsSearchEngine ecoNewsSearchEngine;
+    private final EcoNewsReactionRepo ecoNewsReactionRepo;
+    private final EcoNewsStatistics ecoNewsStatistics;
+    private final MessageOutbox messageOutbox;
+    private final ImageUploader imageUploader;
     private final List<String> languageCode = List.of("en", "ua");
 
     /**
@@ -67,6 +72,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @author Yuriy Olkhovskyi.
      */
     @CacheEvict(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public AddEcoNewsDtoResponse save(AddEcoNewsDtoRequest addEcoNewsDtoRequest,
         MultipartFile image, String email) {
@@ -83,6 +89,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @author Danylo Hlynskyi.
      */
     @CacheEvict(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public EcoNewsGenericDto saveEcoNews(AddEcoNewsDtoRequest addEcoNewsDtoRequest, MultipartFile image, String email) {
         EcoNews toSave = genericSave(addEcoNewsDtoRequest, image, email);
@@ -99,18 +106,16 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     public void sendEmailDto(AddEcoNewsDtoResponse addEcoNewsDtoResponse,
         User user) {
-        String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
         PlaceAuthorDto placeAuthorDto = modelMapper.map(user, PlaceAuthorDto.class);
         EcoNewsForSendEmailDto dto = EcoNewsForSendEmailDto.builder()
             .author(placeAuthorDto)
             .creationDate(addEcoNewsDtoResponse.getCreationDate())
-            .unsubscribeToken(accessToken)
             .text(addEcoNewsDtoResponse.getText())
             .title(addEcoNewsDtoResponse.getTitle())
             .source(addEcoNewsDtoResponse.getSource())
             .imagePath(addEcoNewsDtoResponse.getImagePath())
             .build();
-        restClient.addEcoNews(dto);
+        messageOutbox.enqueue(OutboundMessageType.ECO_NEWS_CREATED, dto);
     }
 
     /**
@@ -120,18 +125,16 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     public void sendEmailDto(EcoNewsGenericDto ecoNewsDto,
         User user) {
-        String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
         PlaceAuthorDto placeAuthorDto = modelMapper.map(user, PlaceAuthorDto.class);
         EcoNewsForSendEmailDto dto = EcoNewsForSendEmailDto.builder()
             .author(placeAuthorDto)
             .creationDate(ecoNewsDto.getCreationDate())
-            .unsubscribeToken(accessToken)
             .text(ecoNewsDto.getContent())
             .title(ecoNewsDto.getTitle())
             .imagePath(ecoNewsDto.getImagePath())
             .source(ecoNewsDto.getSource())
             .build();
-        restClient.addEcoNews(dto);
+        messageOutbox.enqueue(OutboundMessageType.ECO_NEWS_CREATED, dto);
     }
 
     /**
@@ -320,16 +323,15 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         if (user.getRole() != Role.ROLE_ADMIN && !user.getId().equals(ecoNewsVO.getAuthor().getId())) {
             throw new BadRequestException(ErrorMessage.USER_HAS_NO_PERMISSION);
         }
-        String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_ECO_NEWS, user, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_ECO_NEWS, user);
         ecoNewsRepo.deleteById(ecoNewsVO.getId());
+        ecoNewsStatistics.onDeleted(1);
     }
 
     @Transactional
     @Override
     public void deleteAll(List<Long> listId) {
-        ecoNewsRepo.deleteEcoNewsWithIds(listId);
+        ecoNewsStatistics.onDeleted(ecoNewsRepo.deleteEcoNewsWithIds(listId));
     }
 
     /**
@@ -339,15 +341,17 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @return list of {@link EcoNewsDto}
      * @author Kovaliv Taras
      */
+    @Transactional(readOnly = true)
     @Override
     public PageableDto<SearchNewsDto> search(String searchQuery, String languageCode) {
-        Page<EcoNews> page = ecoNewsSearchRepo.find(PageRequest.of(0, 3), searchQuery, languageCode);
+        Page<EcoNews> page = ecoNewsSearchEngine.find(PageRequest.of(0, 3), searchQuery, languageCode);
         return getSearchNewsDtoPageableDto(page);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public PageableDto<SearchNewsDto> search(Pageable pageable, String searchQuery, String languageCode) {
-        Page<EcoNews> page = ecoNewsSearchRepo.find(pageable, searchQuery, languageCode);
+        Page<EcoNews> page = ecoNewsSearchEngine.find(pageable, searchQuery, languageCode);
         return getSearchNewsDtoPageableDto(page);
     }
 
@@ -411,9 +415,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     public void likeComment(UserVO user, EcoNewsCommentVO comment) {
         comment.getUsersLiked().add(user);
-        String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture
-            .runAsync(() -> ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user);
     }
 
     /**
@@ -424,10 +426,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @author Dovganyuk Taras
      */
     public void unlikeComment(UserVO user, EcoNewsCommentVO comment) {
-        String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
         comment.getUsersLiked().removeIf(u -> u.getId().equals(user.getId()));
-        CompletableFuture
-            .runAsync(() -> ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.UNLIKE_COMMENT, user);
     }
 
     @Override
@@ -445,7 +445,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
                 new TypeToken<List<Tag>>() {
                 }.getType()));
         if (image != null) {
-            toUpdate.setImagePath(fileService.upload(image));
+            setImage(toUpdate, imageUploader.upload(image));
         }
     }
 
@@ -463,7 +463,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             image = fileService.convertToMultipartImage(updateEcoNewsDto.getImage());
         }
         if (image != null) {
-            toUpdate.setImagePath(fileService.upload(image));
+            setImage(toUpdate, imageUploader.upload(image));
         }
     }
 
@@ -509,18 +509,14 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @param userVO - current {@link User} that like/dislike news.
      * @param id     - @{@link Long} eco news id.
      */
+    @Transactional
     @Override
     public void like(UserVO userVO, Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        if (ecoNewsVO.getUsersDislikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersDislikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        }
-        if (ecoNewsVO.getUsersLikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersLikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        } else {
-            ecoNewsVO.getUsersLikedNews().add(userVO);
-        }
-        ecoNewsRepo.save(modelMapper.map(ecoNewsVO, EcoNews.class));
+        checkEcoNewsExists(id);
+        int removedDislikes = ecoNewsReactionRepo.deleteDislike(id, userVO.getId());
+        int removedLikes = ecoNewsReactionRepo.deleteLike(id, userVO.getId());
+        int addedLikes = removedLikes == 0 ? ecoNewsReactionRepo.insertLike(id, userVO.getId()) : 0;
+        ecoNewsReactionRepo.updateReactionCounters(id, addedLikes - removedLikes, -removedDislikes);
     }
 
     /**
@@ -529,18 +525,14 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @param userVO - current {@link User} that like/dislike news.
      * @param id     - @{@link Long} eco news id.
      */
+    @Transactional
     @Override
     public void dislike(UserVO userVO, Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        if (ecoNewsVO.getUsersLikedNews().stream().anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersLikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        }
-        if (ecoNewsVO.getUsersDislikedNews().stream().anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersDislikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        } else {
-            ecoNewsVO.getUsersDislikedNews().add(userVO);
-        }
-        ecoNewsRepo.save(modelMapper.map(ecoNewsVO, EcoNews.class));
+        checkEcoNewsExists(id);
+        int removedLikes = ecoNewsReactionRepo.deleteLike(id, userVO.getId());
+        int removedDislikes = ecoNewsReactionRepo.deleteDislike(id, userVO.getId());
+        int addedDislikes = removedDislikes == 0 ? ecoNewsReactionRepo.insertDislike(id, userVO.getId()) : 0;
+        ecoNewsReactionRepo.updateReactionCounters(id, -removedLikes, addedDislikes - removedDislikes);
     }
 
     /**
@@ -551,8 +543,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public Integer countLikesForEcoNews(Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        return ecoNewsVO.getUsersLikedNews().size();
+        return ecoNewsReactionRepo.findLikesCountByEcoNewsId(id)
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
     }
 
     /**
@@ -563,8 +555,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public Integer countDislikesForEcoNews(Long id) {
-        EcoNewsVO ecoNewsV0 = findById(id);
-        return ecoNewsV0.getUsersDislikedNews().size();
+        return ecoNewsReactionRepo.findDislikesCountByEcoNewsId(id)
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
     }
 
     /**
@@ -577,8 +569,27 @@ public class EcoNewsServiceImpl implements EcoNewsService {
 
     @Override
     public Boolean checkNewsIsLikedByUser(Long id, UserVO userVO) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        return ecoNewsVO.getUsersLikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()));
+        checkEcoNewsExists(id);
+        return ecoNewsReactionRepo.existsLikeByEcoNewsIdAndUserId(id, userVO.getId());
+    }
+
+    private static void setImage(EcoNews ecoNews, UploadedImage image) {
+        ecoNews.setImagePath(image.path());
+        ecoNews.setImageVariants(image.variants());
+    }
+
+    private static String thumbnailPath(EcoNews ecoNews) {
+        return ecoNews.getImageVariants() == null ? null : ecoNews.getImageVariants().getThumbnailPath();
+    }
+
+    private static String cardPath(EcoNews ecoNews) {
+        return ecoNews.getImageVariants() == null ? null : ecoNews.getImageVariants().getCardPath();
+    }
+
+    private void checkEcoNewsExists(Long id) {
+        if (!ecoNewsRepo.existsById(id)) {
+            throw new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id);
+        }
     }
 
     /**
@@ -603,7 +614,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public String[] uploadImages(MultipartFile[] images) {
-        return Arrays.stream(images).map(fileService::upload).toArray(String[]::new);
+        return fileService.uploadAll(Arrays.asList(images)).toArray(String[]::new);
     }
 
     /**
@@ -690,10 +701,12 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         int countOfComments = ecoNews.getEcoNewsComments() != null
             ? (int) ecoNews.getEcoNewsComments().stream().filter(notDeleted -> !notDeleted.isDeleted()).count()
             : 0;
-        int countOfEcoNews = ecoNewsRepo.totalCountOfCreationNews();
+        int countOfEcoNews = ecoNewsStatistics.getTotalCount();
         return EcoNewsGenericDto.builder()
             .id(ecoNews.getId())
             .imagePath(ecoNews.getImagePath())
+            .imageThumbnailPath(thumbnailPath(ecoNews))
+            .imageCardPath(cardPath(ecoNews))
             .author(ecoNewsAuthorDto)
             .tagsEn(tags.stream().filter(tag -> tag.matches("^([A-Za-z-])+$")).collect(Collectors.toList()))
             .tagsUa(tags.stream().filter(tag -> tag.matches("^([А-Яа-яієїґ'-])+$")).collect(Collectors.toList()))
@@ -702,7 +715,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .title(ecoNews.getTitle())
             .creationDate(ecoNews.getCreationDate())
             .source(ecoNews.getSource())
-            .likes(ecoNews.getUsersLikedNews() != null ? ecoNews.getUsersLikedNews().size() : 0)
+            .likes(ecoNews.getLikesCount())
             .countComments(countOfComments)
             .countOfEcoNews(countOfEcoNews)
             .build();
@@ -716,8 +729,10 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         return EcoNewsDto.builder()
             .id(ecoNews.getId())
             .imagePath(ecoNews.getImagePath())
+            .imageThumbnailPath(thumbnailPath(ecoNews))
+            .imageCardPath(cardPath(ecoNews))
             .author(ecoNewsAuthorDto)
-            .likes(ecoNews.getUsersLikedNews().size())
+            .likes(ecoNews.getLikesCount())
             .tags(list.stream().filter(tag -> tag.matches("^([A-Za-z-])+$")).collect(Collectors.toList()))
             .tagsUa(list.stream().filter(tag -> tag.matches("^([А-Яа-яієїґ'-])+$")).collect(Collectors.toList()))
             .shortInfo(ecoNews.getShortInfo())
@@ -756,7 +771,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             image = fileService.convertToMultipartImage(addEcoNewsDtoRequest.getImage());
         }
         if (image != null) {
-            toSave.setImagePath(fileService.upload(image));
+            setImage(toSave, imageUploader.upload(image));
         }
 
         Set<String> tagsSet = new HashSet<>(addEcoNewsDtoRequest.getTags());
@@ -773,9 +788,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             }.getType()));
         try {
             ecoNewsRepo.save(toSave);
-            String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-            CompletableFuture.runAsync(
-                () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_ECO_NEWS, byEmail, accessToken));
+            ecoNewsStatistics.onCreated();
+            ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_ECO_NEWS, byEmail);
         } catch (DataIntegrityViolationException e) {
             throw new NotSavedException(ErrorMessage.ECO_NEWS_NOT_SAVED);
         }
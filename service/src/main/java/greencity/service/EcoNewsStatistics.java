@@ -0,0 +1,83 @@
+package greencity.service;
+
+import greencity.repository.EcoNewsRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps total amount of eco news in memory, so it is not counted in the
+ * database for every news item mapped to a dto. The value is loaded lazily,
+ * shifted after every committed save and delete, and periodically reconciled
+ * with the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EcoNewsStatistics {
+    private static final int NOT_LOADED = -1;
+    private final EcoNewsRepo ecoNewsRepo;
+    private final AtomicInteger totalCount = new AtomicInteger(NOT_LOADED);
+
+    /**
+     * Method returns total amount of eco news.
+     *
+     * @return amount of eco news.
+     */
+    public int getTotalCount() {
+        int count = totalCount.get();
+        if (count == NOT_LOADED) {
+            totalCount.compareAndSet(NOT_LOADED, ecoNewsRepo.totalCountOfCreationNews());
+            count = totalCount.get();
+        }
+        return count;
+    }
+
+    /**
+     * Method registers saved eco news once the surrounding transaction commits.
+     */
+    public void onCreated() {
+        shift(1);
+    }
+
+    /**
+     * Method registers deleted eco news once the surrounding transaction commits.
+     *
+     * @param amount amount of deleted eco news.
+     */
+    public void onDeleted(int amount) {
+        shift(-amount);
+    }
+
+    /**
+     * Method reloads total amount of eco news from the database.
+     */
+    public void reconcile() {
+        int actual = ecoNewsRepo.totalCountOfCreationNews();
+        int previous = totalCount.getAndSet(actual);
+        if (previous != NOT_LOADED && previous != actual) {
+            log.info("Reconciled eco news count from {} to {}", previous, actual);
+        }
+    }
+
+    private void shift(int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(delta);
+                }
+            });
+        } else {
+            apply(delta);
+        }
+    }
+
+    private void apply(int delta) {
+        totalCount.updateAndGet(count -> count == NOT_LOADED ? NOT_LOADED : Math.max(0, count + delta));
+    }
+}
@@ -12,10 +12,12 @@ import greencity.entity.EventComment;
 import greencity.entity.User;
 import greencity.entity.Event;
 import greencity.enums.CommentStatus;
+import greencity.enums.OutboundMessageType;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.dto.eventcomment.EventCommentMessageInfoDto;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
+import greencity.outbox.MessageOutbox;
 import greencity.repository.EventCommentRepo;
 import greencity.repository.EventRepository;
 import greencity.repository.UserRepo;
@@ -26,12 +28,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -44,9 +42,10 @@ public class EventCommentServiceImpl implements EventCommentService {
     private final UserService userService;
     private final RestClient restClient;
     private final UserRepo userRepo;
+    private final MessageOutbox messageOutbox;
     private ModelMapper modelMapper;
-    private final ThreadPoolExecutor emailThreadPool = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
 
+    @Transactional
     @Override
     public EventCommentResponseDto save(Long eventId, EventCommentRequestDto requestDto, UserVO user) {
         Event event = eventRepository.findById(eventId)
@@ -64,12 +63,10 @@ public class EventCommentServiceImpl implements EventCommentService {
     }
 
     private void sendNotifications(EventComment comment, Event event, User commentAuthor) {
-        EventCommentMessageInfoDto message = getMessageDto(comment, event, commentAuthor);
-        sendEmailNotificationToEventAuthor(message);
-        comment.getMentionedUsers().forEach(
-                mentionedUser -> sendEmailNotificationToMentionedUser
-                        (getMessageDto(comment, event, mentionedUser))
-        );
+        messageOutbox.enqueue(OutboundMessageType.EVENT_COMMENTED, getMessageDto(comment, event, commentAuthor));
+        messageOutbox.enqueueAll(OutboundMessageType.MENTIONED_IN_EVENT_COMMENT, comment.getMentionedUsers().stream()
+                .map(mentionedUser -> getMessageDto(comment, event, mentionedUser))
+                .toList());
     }
 
     private EventCommentMessageInfoDto getMessageDto(EventComment comment, Event event, User receiver) {
@@ -108,30 +105,6 @@ public class EventCommentServiceImpl implements EventCommentService {
         }
     }
 
-    private void sendEmailNotificationToEventAuthor(EventCommentMessageInfoDto eventCommentMessageInfoDto) {
-        RequestAttributes originalRequestAttributes = RequestContextHolder.getRequestAttributes();
-        emailThreadPool.submit(() -> {
-            try {
-                RequestContextHolder.setRequestAttributes(originalRequestAttributes);
-                restClient.sendEventCommentNotification(eventCommentMessageInfoDto);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        });
-    }
-
-    private void sendEmailNotificationToMentionedUser(EventCommentMessageInfoDto eventCommentMessageInfoDto) {
-        RequestAttributes originalRequestAttributes = RequestContextHolder.getRequestAttributes();
-        emailThreadPool.submit(() -> {
-            try {
-                RequestContextHolder.setRequestAttributes(originalRequestAttributes);
-                restClient.sendMentionedInEventCommentNotification(eventCommentMessageInfoDto);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        });
-    }
-
     @Override
     public int countOfComments(Long eventId) {
         Event event = eventRepository.findById(eventId)
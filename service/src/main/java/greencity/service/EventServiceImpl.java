@@ -8,27 +8,31 @@ import greencity.dto.search.SearchEventsDto;
 import greencity.dto.user.EventAuthorDto;
 import greencity.dto.user.UserVO;
 import greencity.entity.*;
+import greencity.enums.OutboundMessageType;
 import greencity.enums.Role;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotSavedException;
+import greencity.image.ImageUploader;
+import greencity.image.UploadedImage;
+import greencity.outbox.MessageOutbox;
 import greencity.repository.EventRepository;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static greencity.constant.AppConstant.AUTHORIZATION;
 
 @Service
 @RequiredArgsConstructor
@@ -36,15 +40,16 @@ public class EventServiceImpl implements EventService {
 
     private final EventRepository eventRepository;
     private final ModelMapper modelMapper;
-    private final FileService fileService;
+    private final ImageUploader imageUploader;
     private final RestClient restClient;
-    private final HttpServletRequest httpServletRequest;
+    private final MessageOutbox messageOutbox;
 
+    @Transactional
     @Override
     public AddEventDtoResponse saveEvent(AddEventDtoRequest addEventDtoRequest, List<MultipartFile> images, String email) {
         Event eventToSave = genericSave(addEventDtoRequest, images, email);
 
-        AddEventDtoResponse addEventDtoResponse = modelMapper.map(eventToSave, AddEventDtoResponse.class);
+        AddEventDtoResponse addEventDtoResponse = toAddEventDtoResponse(eventToSave);
         sendEmailDto(addEventDtoResponse, eventToSave.getAuthor());
 
         return addEventDtoResponse;
@@ -59,7 +64,7 @@ public class EventServiceImpl implements EventService {
         enhanceWithNewData(toUpdate, updateEventDTO, images);
         Event updatedEvent = eventRepository.save(toUpdate);
 
-        return modelMapper.map(updatedEvent, AddEventDtoResponse.class);
+        return toAddEventDtoResponse(updatedEvent);
     }
 
     @Override
@@ -82,13 +87,12 @@ public class EventServiceImpl implements EventService {
         eventToSave.setAuthor(user);
 
         List<String> imagePaths = new ArrayList<>();
+        Map<String, ImageVariants> imageVariants = new HashMap<>();
 
         if (images != null && !images.isEmpty()) {
-            for (MultipartFile image : images) {
-                String imagePath = fileService.upload(image);
-                imagePaths.add(imagePath);
-            }
+            addImages(imageUploader.uploadAll(images), imagePaths, imageVariants);
             eventToSave.setImagePaths(imagePaths);
+            eventToSave.setImageVariants(imageVariants);
         }
 
         try {
@@ -101,17 +105,15 @@ public class EventServiceImpl implements EventService {
 
     public void sendEmailDto(AddEventDtoResponse addEventDtoResponse,
                              User user) {
-        String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
         EventAuthorDto eventAuthorDto = modelMapper.map(user, EventAuthorDto.class);
         EventForSendEmailDto dto = EventForSendEmailDto.builder()
                 .author(eventAuthorDto)
                 .title(addEventDtoResponse.getTitle())
                 .description(addEventDtoResponse.getDescription())
-                .unsubscribeToken(accessToken)
                 .imagePaths(addEventDtoResponse.getImagePaths())
                 .datesLocations(addEventDtoResponse.getDatesLocations())
                 .build();
-            restClient.addEvent(dto, accessToken);
+        messageOutbox.enqueue(OutboundMessageType.EVENT_CREATED, dto);
     }
 
     private void enhanceWithNewData(Event toUpdate, UpdateEventDTO updateEventDTO,
@@ -125,36 +127,74 @@ public class EventServiceImpl implements EventService {
                 .collect(Collectors.toList()));
 
         List<String> imagePaths = new ArrayList<>(updateEventDTO.getAdditionalImages());
+        Map<String, ImageVariants> imageVariants = toUpdate.getImageVariants() == null
+                ? new HashMap<>()
+                : new HashMap<>(toUpdate.getImageVariants());
 
         if (images != null && !images.isEmpty()) {
-            for (MultipartFile image : images) {
-                String imagePath = fileService.upload(image);
-                imagePaths.add(imagePath);
-            }
+            addImages(imageUploader.uploadAll(images), imagePaths, imageVariants);
         }
 
         if (updateEventDTO.getImagesToDelete() != null) {
             imagePaths.removeAll(updateEventDTO.getImagesToDelete());
         }
+        imageVariants.keySet().retainAll(imagePaths);
 
         toUpdate.setImagePaths(imagePaths);
+        toUpdate.setImageVariants(imageVariants);
     }
 
+    @Transactional(readOnly = true)
     public PageableDto<SearchEventsDto> search (Pageable pageable, String query) {
-        List<Event> events = eventRepository.findAllByContainingTitle(query);
-        Page page = new PageImpl(Arrays.asList(events.toArray()), pageable, events.size());
-        return getPageableDto(page);
+        return getPageableDto(eventRepository.searchEvents(query, pageable));
     }
 
     private PageableDto<SearchEventsDto> getPageableDto(Page<Event> page) {
         List<SearchEventsDto> eventsDtos = page
                 .stream()
-                .map(event -> modelMapper.map(event, SearchEventsDto.class))
+                .map(event -> {
+                    SearchEventsDto dto = modelMapper.map(event, SearchEventsDto.class);
+                    dto.setImageThumbnailPaths(variantPaths(event, ImageVariants::getThumbnailPath));
+                    dto.setImageCardPaths(variantPaths(event, ImageVariants::getCardPath));
+                    return dto;
+                })
                 .collect(Collectors.toList());
         return new PageableDto<SearchEventsDto>(
                 eventsDtos,
                 page.getTotalElements(),
-                page.getTotalPages(),
-                page.getNumber());
+                page.getNumber(),
+                page.getTotalPages());
+    }
+
+    private AddEventDtoResponse toAddEventDtoResponse(Event event) {
+        AddEventDtoResponse dto = modelMapper.map(event, AddEventDtoResponse.class);
+        dto.setImageThumbnailPaths(variantPaths(event, ImageVariants::getThumbnailPath));
+        dto.setImageCardPaths(variantPaths(event, ImageVariants::getCardPath));
+        return dto;
+    }
+
+    private static void addImages(List<UploadedImage> uploadedImages, List<String> imagePaths,
+                                  Map<String, ImageVariants> imageVariants) {
+        for (UploadedImage image : uploadedImages) {
+            imagePaths.add(image.path());
+            imageVariants.put(image.path(), image.variants());
+        }
+    }
+
+    /**
+     * Returns paths of given variant of event images in the order of
+     * {@link Event#getImagePaths()}. Images uploaded before variants were
+     * introduced are represented by their original path.
+     */
+    private static List<String> variantPaths(Event event, Function<ImageVariants, String> variant) {
+        if (event.getImagePaths() == null) {
+            return null;
+        }
+        Map<String, ImageVariants> imageVariants = event.getImageVariants() == null
+                ? Map.of()
+                : event.getImageVariants();
+        return event.getImagePaths().stream()
+                .map(path -> imageVariants.containsKey(path) ? variant.apply(imageVariants.get(path)) : path)
+                .collect(Collectors.toList());
     }
 }
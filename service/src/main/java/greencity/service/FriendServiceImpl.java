@@ -6,30 +6,30 @@ import greencity.dto.user.FriendDtoResponse;
 import greencity.entity.User;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.mapping.FriendDtoMapper;
-import greencity.repository.EcoNewsRepo;
 import greencity.repository.FriendRepo;
 import greencity.repository.HabitAssignRepo;
 import greencity.repository.UserRepo;
+import greencity.service.FriendStatisticsLoader.FriendStatistics;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class FriendServiceImpl implements FriendService {
-    private static final String STATUS_ACQUIRED = "ACQUIRED";
-    private static final String STATUS_INPROGRESS = "INPROGRESS";
     private final UserRepo userRepo;
     private final FriendRepo friendRepo;
     private final HabitAssignRepo habitAssignRepo;
-    private final EcoNewsRepo ecoNewsRepo;
     private final UserServiceImpl userService;
     private final FriendDtoMapper mapper;
+    private final FriendStatisticsLoader friendStatisticsLoader;
 
     @Override
     public PageableDto<FriendDtoResponse> getAllUserFriends(Long userId, Pageable pageable) {
@@ -43,11 +43,7 @@ public class FriendServiceImpl implements FriendService {
 
         Page<User> friendsPage = friendRepo.getAllFriendsByUserId(userId, userFound.getCity(), habitIds, pageable);
 
-        List<FriendDtoResponse> friendDtoResponses = friendsPage.stream()
-                .map(user -> {
-                    return populateFriendDto(user, userId);
-                })
-                .collect(Collectors.toList());
+        List<FriendDtoResponse> friendDtoResponses = populateFriendDtos(friendsPage.getContent(), userId);
 
         return new PageableDto<>(friendDtoResponses,
                 friendsPage.getTotalElements(),
@@ -58,16 +54,14 @@ public class FriendServiceImpl implements FriendService {
     @Override
     public FriendDtoResponse getFriendProfile(Long userId) {
         User user = getUserById(userId);
-        return populateFriendDto(user, userId);
+        return populateFriendDtos(List.of(user), userId).getFirst();
     }
 
     @Override
     public List<FriendDtoResponse> searchNewFriends(Long userId, String searchTerm) {
         String searchTermWithWildcards = "%" + searchTerm + "%";
         List<User> users = friendRepo.searchNewFriends(userId, searchTermWithWildcards);
-        return users.stream()
-                .map(user -> populateFriendDto(user, userId))
-                .collect(Collectors.toList());
+        return populateFriendDtos(users, userId);
     }
 
     @Override
@@ -98,25 +92,19 @@ public class FriendServiceImpl implements FriendService {
     @Override
     public List<FriendDtoResponse> findFriendsByCity(Long userId) {
         List<User> friends = friendRepo.findFriendsByCity(userId);
-        return friends.stream()
-                .map(user -> populateFriendDto(user, userId))
-                .collect(Collectors.toList());
+        return populateFriendDtos(friends, userId);
     }
 
     @Override
     public List<FriendDtoResponse> findFriendsOfFriends(Long userId) {
         List<User> friends = friendRepo.findFriendsOfFriends(userId);
-        return friends.stream()
-                .map(user -> populateFriendDto(user, userId))
-                .collect(Collectors.toList());
+        return populateFriendDtos(friends, userId);
     }
 
     @Override
     public List<FriendDtoResponse> findFriendsOfFriendsByCity(Long userId) {
         List<User> friends = friendRepo.findFriendsOfFriendsByCity(userId);
-        return friends.stream()
-                .map(user -> populateFriendDto(user, userId))
-                .collect(Collectors.toList());
+        return populateFriendDtos(friends, userId);
     }
 
     @Override
@@ -136,9 +124,7 @@ public class FriendServiceImpl implements FriendService {
     @Override
     public List<FriendDtoResponse> getAllUserFriendsByCityHabitCommonFriends(Long userId) {
         List<User> recommendationsFriends = friendRepo.getAllFriendsByCityHabitCommonFriends(userId);
-        return recommendationsFriends.stream()
-                .map(user -> populateFriendDto(user, userId))
-                .collect(Collectors.toList());
+        return populateFriendDtos(recommendationsFriends, userId);
     }
 
     @Override
@@ -156,19 +142,22 @@ public class FriendServiceImpl implements FriendService {
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.USER_NOT_FOUND_BY_ID + userId));
     }
 
-    private FriendDtoResponse populateFriendDto(User user, Long userId) {
-        FriendDtoResponse friendDtoResponse = mapper.convert(user);
-        if (friendDtoResponse != null) {
-            friendDtoResponse.setMutualFriends(
-                    friendRepo.findMutualFriends(userId, user.getId()).size());
-            friendDtoResponse.setAmountHabitsAcquired(
-                    habitAssignRepo.getHabitAssignByUserIdAndStatus(user.getId(), STATUS_ACQUIRED).size());
-            friendDtoResponse.setAmountHabitsInProgress(
-                    habitAssignRepo.getHabitAssignByUserIdAndStatus(user.getId(), STATUS_INPROGRESS).size());
-            friendDtoResponse.setAmountNewsPublished(
-                    ecoNewsRepo.findAllByUserId(user.getId()).size());
+    private List<FriendDtoResponse> populateFriendDtos(List<User> users, Long userId) {
+        Map<Long, FriendStatistics> statistics = friendStatisticsLoader.load(userId,
+                users.stream().map(User::getId).collect(Collectors.toSet()));
+        List<FriendDtoResponse> friendDtoResponses = new ArrayList<>(users.size());
+        for (User user : users) {
+            FriendDtoResponse friendDtoResponse = mapper.convert(user);
+            FriendStatistics friendStatistics = statistics.get(user.getId());
+            if (friendDtoResponse != null && friendStatistics != null) {
+                friendDtoResponse.setMutualFriends(friendStatistics.getMutualFriends());
+                friendDtoResponse.setAmountHabitsAcquired(friendStatistics.getAmountHabitsAcquired());
+                friendDtoResponse.setAmountHabitsInProgress(friendStatistics.getAmountHabitsInProgress());
+                friendDtoResponse.setAmountNewsPublished(friendStatistics.getAmountNewsPublished());
+            }
+            friendDtoResponses.add(friendDtoResponse);
         }
-        return friendDtoResponse;
+        return friendDtoResponses;
     }
 
     @Override
@@ -0,0 +1,83 @@
+package greencity.service;
+
+import greencity.enums.HabitAssignStatus;
+import greencity.repository.EcoNewsRepo;
+import greencity.repository.FriendRepo;
+import greencity.repository.HabitAssignRepo;
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads statistics shown on friend cards for a whole page of users at once,
+ * using a fixed number of grouped queries instead of several queries per user.
+ */
+@Component
+@RequiredArgsConstructor
+public class FriendStatisticsLoader {
+    private static final List<HabitAssignStatus> COUNTED_STATUSES =
+            List.of(HabitAssignStatus.ACQUIRED, HabitAssignStatus.INPROGRESS);
+    private final FriendRepo friendRepo;
+    private final HabitAssignRepo habitAssignRepo;
+    private final EcoNewsRepo ecoNewsRepo;
+
+    /**
+     * Method loads friend card statistics of given users.
+     *
+     * @param userId  id of the current user, used to count mutual friends.
+     * @param userIds ids of users shown on the page.
+     * @return {@link Map} of user id to its {@link FriendStatistics}, contains an
+     *         entry for every given id.
+     */
+    public Map<Long, FriendStatistics> load(Long userId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, FriendStatistics> statistics = new HashMap<>();
+        userIds.forEach(id -> statistics.put(id, new FriendStatistics()));
+
+        for (Tuple tuple : friendRepo.countMutualFriends(userId, userIds)) {
+            statistics.get(toLong(tuple.get(0))).setMutualFriends(toInt(tuple.get(1)));
+        }
+        for (Tuple tuple : habitAssignRepo.countHabitAssignsByUserIdsAndStatuses(userIds, COUNTED_STATUSES)) {
+            FriendStatistics friendStatistics = statistics.get(toLong(tuple.get(0)));
+            if (tuple.get(1) == HabitAssignStatus.ACQUIRED) {
+                friendStatistics.setAmountHabitsAcquired(toInt(tuple.get(2)));
+            } else {
+                friendStatistics.setAmountHabitsInProgress(toInt(tuple.get(2)));
+            }
+        }
+        for (Tuple tuple : ecoNewsRepo.countPublishedNewsByUserIds(userIds)) {
+            statistics.get(toLong(tuple.get(0))).setAmountNewsPublished(toInt(tuple.get(1)));
+        }
+        return statistics;
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static int toInt(Object value) {
+        return ((Number) value).intValue();
+    }
+
+    /**
+     * Statistics shown on a friend card.
+     */
+    @Getter
+    @Setter
+    public static class FriendStatistics {
+        private int mutualFriends;
+        private int amountHabitsAcquired;
+        private int amountHabitsInProgress;
+        private int amountNewsPublished;
+    }
+}
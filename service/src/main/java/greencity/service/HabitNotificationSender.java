@@ -0,0 +1,68 @@
+package greencity.service;
+
+import greencity.dto.user.UserVO;
+import greencity.enums.OutboundMessageType;
+import greencity.message.SendHabitNotification;
+import greencity.outbox.MessageOutbox;
+import greencity.repository.HabitAssignRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sends reminders to users that have not marked any habit during last days.
+ * Inactive users are found with one grouped query per batch, and reminders of
+ * the batch are saved to {@link MessageOutbox}, which sends them with retries,
+ * so the scheduler thread is not blocked by remote calls.
+ */
+@Slf4j
+@Component
+public class HabitNotificationSender {
+    private static final int INACTIVITY_DAYS = 3;
+    private final HabitAssignRepo habitAssignRepo;
+    private final MessageOutbox messageOutbox;
+    private final int batchSize;
+
+    /**
+     * Constructor.
+     */
+    public HabitNotificationSender(HabitAssignRepo habitAssignRepo, MessageOutbox messageOutbox,
+        @Value("${greencity.habit-notification.batch-size:500}") int batchSize) {
+        this.habitAssignRepo = habitAssignRepo;
+        this.messageOutbox = messageOutbox;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Method queues reminders to those of given users that have not marked any
+     * habit during last {@value INACTIVITY_DAYS} days.
+     *
+     * @param users list of potential {@link UserVO} to send notifications.
+     * @return amount of queued reminders.
+     */
+    public int send(List<UserVO> users) {
+        ZonedDateTime end = ZonedDateTime.now();
+        ZonedDateTime start = end.minusDays(INACTIVITY_DAYS);
+        int queued = 0;
+        for (int from = 0; from < users.size(); from += batchSize) {
+            List<UserVO> batch = users.subList(from, Math.min(from + batchSize, users.size()));
+            Set<Long> activeUserIds = new HashSet<>(habitAssignRepo.findUserIdsWithMarkedHabitAssignsByPeriod(
+                batch.stream().map(UserVO::getId).toList(), start, end));
+            List<SendHabitNotification> notifications = batch.stream()
+                .filter(user -> !activeUserIds.contains(user.getId()))
+                .map(user -> new SendHabitNotification(user.getName(), user.getEmail()))
+                .toList();
+            if (!notifications.isEmpty()) {
+                messageOutbox.enqueueAll(OutboundMessageType.HABIT_NOTIFICATION, notifications);
+                queued += notifications.size();
+            }
+        }
+        log.info("Habit notifications queued: {} of {} checked users", queued, users.size());
+        return queued;
+    }
+}
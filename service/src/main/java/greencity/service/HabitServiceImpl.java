@@ -10,6 +10,7 @@ import greencity.dto.shoppinglistitem.ShoppingListItemDto;
 import greencity.dto.user.UserProfilePictureDto;
 import greencity.dto.user.UserVO;
 import greencity.entity.*;
+import greencity.enums.HabitAssignStatus;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.WrongEmailException;
 import greencity.mapping.*;
@@ -21,8 +22,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import jakarta.persistence.Tuple;
 import jakarta.transaction.Transactional;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -83,9 +86,7 @@ public class HabitServiceImpl implements HabitService {
     @Override
     public PageableDto<HabitDto> getAllHabitsByLanguageCode(UserVO userVO, Pageable pageable, String language) {
         long userId = userVO.getId();
-        List<Long> availableUsersIds =
-            userRepo.getAllUserFriends(userId).stream().map(user -> user.getId())
-                .collect(Collectors.toList());
+        List<Long> availableUsersIds = new ArrayList<>(userRepo.getAllUserFriendIds(userId));
         availableUsersIds.add(userId);
 
         Page<HabitTranslation> habitTranslationPage =
@@ -114,12 +115,14 @@ public class HabitServiceImpl implements HabitService {
      * @author Markiyan Derevetskyi
      */
     private PageableDto<HabitDto> buildPageableDto(Page<HabitTranslation> habitTranslationsPage) {
-        List<HabitDto> habits =
-            habitTranslationsPage.stream()
-                .map(habitTranslation -> modelMapper.map(habitTranslation, HabitDto.class))
-                .collect(Collectors.toList());
-        habits.forEach(
-            habitDto -> habitDto.setAmountAcquiredUsers(habitAssignRepo.findAmountOfUsersAcquired(habitDto.getId())));
+        List<HabitDto> habits = mapHabitTranslations(habitTranslationsPage);
+        if (!habits.isEmpty()) {
+            Map<Long, Long> amountsAcquiredUsers = new HashMap<>();
+            habitAssignRepo.countUsersAcquiredByHabitIds(getIds(habits))
+                .forEach(tuple -> amountsAcquiredUsers.put(tuple.get(0, Long.class), tuple.get(1, Long.class)));
+            habits.forEach(habitDto -> habitDto.setAmountAcquiredUsers(
+                amountsAcquiredUsers.getOrDefault(habitDto.getId(), 0L)));
+        }
         return new PageableDto<>(habits, habitTranslationsPage.getTotalElements(),
             habitTranslationsPage.getPageable().getPageNumber(),
             habitTranslationsPage.getTotalPages());
@@ -142,9 +145,7 @@ public class HabitServiceImpl implements HabitService {
         }
         Page<HabitTranslation> habitTranslationsPage;
         long userId = userVO.getId();
-        List<Long> availableUsersIds =
-            userRepo.getAllUserFriends(userId).stream().map(user -> user.getId())
-                .collect(Collectors.toList());
+        List<Long> availableUsersIds = new ArrayList<>(userRepo.getAllUserFriendIds(userId));
         availableUsersIds.add(userId);
 
         if (isCustomHabit.isPresent() && !lowerCaseTags.isEmpty() && !complexitiesList.isEmpty()) {
@@ -215,25 +216,35 @@ public class HabitServiceImpl implements HabitService {
      */
     private PageableDto<HabitDto> buildPageableDtoForDifferentParameters(Page<HabitTranslation> habitTranslationsPage,
         UserVO userVO) {
-        List<HabitDto> habits = habitTranslationsPage.stream()
-            .map(habitTranslation -> modelMapper.map(habitTranslation, HabitDto.class))
-            .collect(Collectors.toList());
-        habits.forEach(
-            habitDto -> habitDto.setAmountAcquiredUsers(habitAssignRepo.findAmountOfUsersAcquired(habitDto.getId())));
+        List<HabitDto> habits = mapHabitTranslations(habitTranslationsPage);
+        if (habits.isEmpty()) {
+            return new PageableDto<>(habits, habitTranslationsPage.getTotalElements(),
+                habitTranslationsPage.getPageable().getPageNumber(), habitTranslationsPage.getTotalPages());
+        }
+        List<Long> habitIds = getIds(habits);
+        Map<Long, Tuple> cards = new HashMap<>();
+        habitRepo.findCatalogCards(habitIds, userVO.getId())
+            .forEach(card -> cards.put(((Number) card.get("id")).longValue(), card));
+        Map<Long, List<CustomShoppingListItem>> customShoppingListItems = customShoppingListItemRepo
+            .findAllByHabitIds(habitIds).stream()
+            .collect(Collectors.groupingBy(item -> item.getHabit().getId()));
 
         for (HabitDto habitDto : habits) {
-            Habit habit = habitRepo.findById(habitDto.getId())
+            Tuple card = Optional.ofNullable(cards.get(habitDto.getId()))
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.HABIT_NOT_FOUND_BY_ID + habitDto.getId()));
-            Optional<HabitAssign> habitAssign =
-                habitAssignRepo.findByHabitIdAndUserId(habitDto.getId(), userVO.getId());
-            habitAssign.ifPresent(assign -> habitDto.setHabitAssignStatus(assign.getStatus()));
-            boolean isCustomHabit = habit.getIsCustomHabit();
+            habitDto.setAmountAcquiredUsers(((Number) card.get("acquired_users")).longValue());
+            String assignStatus = card.get("assign_status", String.class);
+            if (assignStatus != null) {
+                habitDto.setHabitAssignStatus(HabitAssignStatus.valueOf(assignStatus.toUpperCase()));
+            }
+            boolean isCustomHabit = Boolean.TRUE.equals(card.get("is_custom_habit", Boolean.class));
             habitDto.setIsCustomHabit(isCustomHabit);
             if (isCustomHabit) {
-                habitDto.setUsersIdWhoCreatedCustomHabit(habit.getUserId());
+                Number creatorId = (Number) card.get("creator_id");
+                habitDto.setUsersIdWhoCreatedCustomHabit(creatorId == null ? null : creatorId.longValue());
             }
-            habitDto.setCustomShoppingListItems(
-                customShoppingListResponseDtoMapper.mapAllToList(habit.getCustomShoppingListItems()));
+            habitDto.setCustomShoppingListItems(customShoppingListResponseDtoMapper.mapAllToList(
+                customShoppingListItems.getOrDefault(habitDto.getId(), Collections.emptyList())));
         }
         return new PageableDto<>(habits,
             habitTranslationsPage.getTotalElements(),
@@ -241,6 +252,35 @@ public class HabitServiceImpl implements HabitService {
             habitTranslationsPage.getTotalPages());
     }
 
+    /**
+     * Method maps page of {@link HabitTranslation} to list of {@link HabitDto}.
+     * Habits of the page are loaded with their tags and shopping list items by one
+     * query and are mapped instead of lazily loaded habits of translations.
+     *
+     * @param habitTranslationsPage {@link Page} of {@link HabitTranslation}
+     * @return list of {@link HabitDto}
+     */
+    private List<HabitDto> mapHabitTranslations(Page<HabitTranslation> habitTranslationsPage) {
+        if (!habitTranslationsPage.hasContent()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Habit> habitsById = habitRepo.findAllWithTagsAndShoppingListItemsByIds(habitTranslationsPage.stream()
+            .map(habitTranslation -> habitTranslation.getHabit().getId())
+            .collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(Habit::getId, Function.identity()));
+        return habitTranslationsPage.stream()
+            .map(habitTranslation -> {
+                habitTranslation.setHabit(habitsById.getOrDefault(habitTranslation.getHabit().getId(),
+                    habitTranslation.getHabit()));
+                return modelMapper.map(habitTranslation, HabitDto.class);
+            })
+            .collect(Collectors.toList());
+    }
+
+    private static List<Long> getIds(List<HabitDto> habits) {
+        return habits.stream().map(HabitDto::getId).collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
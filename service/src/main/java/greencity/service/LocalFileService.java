@@ -0,0 +1,101 @@
+package greencity.service;
+
+import greencity.constant.ErrorMessage;
+import greencity.exception.exceptions.BadRequestException;
+import greencity.exception.exceptions.ImageUrlParseException;
+import greencity.exception.exceptions.NotSavedException;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link FileService} which keeps files in a directory of local file system.
+ * Used for tests and deployments without access to cloud storage; files are
+ * served by the application under {@code greencity.storage.local.base-url}.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "greencity.storage.type", havingValue = "local")
+public class LocalFileService implements FileService {
+    private final Path root;
+    private final String baseUrl;
+    private final ModelMapper modelMapper;
+
+    /**
+     * Constructor with parameters.
+     */
+    public LocalFileService(@Value("${greencity.storage.local.root:${java.io.tmpdir}/greencity-files}") String root,
+        @Value("${greencity.storage.local.base-url:/files}") String baseUrl,
+        ModelMapper modelMapper) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.modelMapper = modelMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String upload(MultipartFile multipartFile) {
+        String fileName = UUID.randomUUID() + Paths.get(String.valueOf(multipartFile.getOriginalFilename()))
+            .getFileName().toString();
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            Files.createDirectories(root);
+            Files.copy(inputStream, root.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
+        }
+        return baseUrl + "/" + fileName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> uploadAll(List<MultipartFile> multipartFiles) {
+        return multipartFiles.stream().map(this::upload).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MultipartFile convertToMultipartImage(String image) {
+        try {
+            return modelMapper.map(image, MultipartFile.class);
+        } catch (Exception e) {
+            throw new BadRequestException(ErrorMessage.MULTIPART_FILE_BAD_REQUEST + image);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String path) {
+        String fileName;
+        try {
+            fileName = Paths.get(new URI(path).getPath()).getFileName().toString();
+        } catch (URISyntaxException e) {
+            throw new ImageUrlParseException(ErrorMessage.PARSING_URL_FAILED + path);
+        }
+        try {
+            Files.deleteIfExists(root.resolve(fileName));
+        } catch (IOException e) {
+            log.warn("File {} is not deleted: {}", fileName, e.getMessage());
+        }
+    }
+}
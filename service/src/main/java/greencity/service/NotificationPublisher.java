@@ -0,0 +1,149 @@
+package greencity.service;
+
+import greencity.dto.notification.NotificationPushDto;
+import greencity.dto.notification.NotificationReadDto;
+import greencity.enums.NotificationPushAction;
+import greencity.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes notification changes to the user destination {@value #DESTINATION} of
+ * connected users and keeps their unread counters in memory. The counter of a
+ * user is loaded from the database when the first STOMP session of the user
+ * connects and is dropped when the last one disconnects. Each push after commit
+ * recounts unread notifications of the connected user, so the counter stays
+ * correct for changes committed while it was loaded and badge reads need no query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPublisher {
+    static final String DESTINATION = "/queue/notifications";
+    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationRepository notificationRepository;
+    private final Map<Long, ConnectedUser> connectedUsers = new ConcurrentHashMap<>();
+
+    /**
+     * Returns unread counter of connected user.
+     *
+     * @param userId id of user.
+     * @return amount of unread notifications, empty if user is not connected.
+     */
+    public OptionalLong getUnreadCount(final long userId) {
+        final ConnectedUser user = connectedUsers.get(userId);
+        return user == null ? OptionalLong.empty() : OptionalLong.of(user.unread.get());
+    }
+
+    /**
+     * Pushes created notification to its user after the current transaction commits.
+     *
+     * @param notification created notification.
+     */
+    public void created(final NotificationReadDto notification) {
+        afterCommit(() -> push(notification.getUserId(), NotificationPushAction.CREATED,
+                notification.getId(), notification));
+    }
+
+    /**
+     * Pushes change of viewed state of notification after the current transaction commits.
+     *
+     * @param userId         id of user who owns the notification.
+     * @param notificationId id of notification.
+     * @param viewed         new viewed state.
+     */
+    public void viewedChanged(final long userId, final long notificationId, final boolean viewed) {
+        afterCommit(() -> push(userId, viewed ? NotificationPushAction.VIEWED : NotificationPushAction.UNVIEWED,
+                notificationId, null));
+    }
+
+    /**
+     * Starts tracking unread counter of user when a STOMP session of the user is connected.
+     *
+     * @param userId id of user.
+     */
+    public void connected(final long userId) {
+        connectedUsers.compute(userId, (id, user) -> user == null
+                ? new ConnectedUser(notificationRepository.countByUserIdAndViewedFalse(id))
+                : user.addSession());
+    }
+
+    /**
+     * Stops tracking unread counter of user when the last STOMP session of the user is closed.
+     *
+     * @param userId id of user.
+     */
+    public void disconnected(final long userId) {
+        connectedUsers.computeIfPresent(userId, (id, user) -> user.removeSession());
+    }
+
+    private void push(final long userId, final NotificationPushAction action, final long notificationId,
+                      final NotificationReadDto notification) {
+        final ConnectedUser user = connectedUsers.computeIfPresent(userId,
+                (id, connected) -> connected.recount(notificationRepository.countByUserIdAndViewedFalse(id)));
+        if (user == null) {
+            return;
+        }
+        final long unreadCount = user.unread.get();
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), DESTINATION, NotificationPushDto.builder()
+                    .action(action)
+                    .notificationId(notificationId)
+                    .notification(notification)
+                    .unreadCount(unreadCount)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Notification {} is not pushed to user {}: {}", notificationId, userId, e.getMessage());
+        }
+    }
+
+    private void afterCommit(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Unread counter and amount of open sessions of connected user. Loading and
+     * recounting of the counter of a user are serialized by the map of connected
+     * users.
+     */
+    private static final class ConnectedUser {
+        private final AtomicLong unread;
+        private int sessions = 1;
+
+        private ConnectedUser(final long unread) {
+            this.unread = new AtomicLong(unread);
+        }
+
+        private ConnectedUser recount(final long unread) {
+            this.unread.set(unread);
+            return this;
+        }
+
+        private ConnectedUser addSession() {
+            sessions++;
+            return this;
+        }
+
+        private ConnectedUser removeSession() {
+            return --sessions == 0 ? null : this;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import greencity.dto.notification.NotificationReadDto;
 import greencity.entity.Notification;
 import greencity.entity.Notification_;
 import greencity.entity.User_;
+import greencity.enums.NotificationType;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.constant.CriteriaOperations;
 import greencity.filters.NotificationSpecification;
@@ -19,8 +20,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * Service implementation for managing notifications.
@@ -32,17 +32,15 @@ import java.util.stream.Collectors;
 public class NotificationServiceImpl implements NotificationService {
     private NotificationRepository notificationRepository;
     private ModelMapper modelMapper;
-    private final String notificationBundle = "notifications";
-    private final Locale locale = Locale.forLanguageTag("en");
-    private final String titleInBundle = "_TITLE";
-    private final String messageInBundle = "_MESSAGE";
+    private final NotificationTemplates notificationTemplates;
+    private final NotificationPublisher notificationPublisher;
 
     /**
      * Creates a new notification and saves it to the database.
      * <p>
      * The method involves mapping the provided {@link NotificationCreateDto} to a {@link Notification} entity,
-     * fetching the appropriate localized messages from a resource bundle, formatting the title and message
-     * with any provided parameters, and saving the notification to the database.
+     * rendering the title and message in the default language with any provided parameters, and saving
+     * the notification together with its parameters to the database.
      *
      * @param notificationCreateDto the DTO containing notification details to be created.
      * @param language              the language code for localizing the notification.
@@ -51,35 +49,33 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public NotificationReadDto createNotification(final NotificationCreateDto notificationCreateDto, final String language) {
         final Notification notification = modelMapper.map(notificationCreateDto, Notification.class);
-        final ResourceBundle bundle = ResourceBundle.getBundle(notificationBundle, locale);
         final String[] titleParams = notificationCreateDto.getTitleParams();
         final String[] messageParams = notificationCreateDto.getMessageParams();
+        notification.setTitleParams(titleParams);
+        notification.setMessageParams(messageParams);
+        notification.setTitle(notificationTemplates.renderTitle(notification.getType(),
+                NotificationTemplates.DEFAULT_LANGUAGE, titleParams));
+        notification.setMessage(notificationTemplates.renderMessage(notification.getType(),
+                NotificationTemplates.DEFAULT_LANGUAGE, messageParams));
 
-        final String title = bundle.getString(notification.getType().name() + titleInBundle);
-        if (!Objects.isNull(titleParams) && titleParams.length != 0) {
-            notification.setTitle(title.formatted((Object[]) titleParams));
-        } else {
-            notification.setTitle(title);
-        }
-        final String message = bundle.getString(notification.getType().name() + messageInBundle);
-        if (!Objects.isNull(messageParams) && messageParams.length != 0) {
-            notification.setMessage(message.formatted((Object[]) messageParams));
-        } else {
-            notification.setMessage(message);
-        }
-
-        return convertAccordingToLanguage(modelMapper.map(notificationRepository.save(notification), NotificationReadDto.class), language);
+        final Notification saved = notificationRepository.save(notification);
+        final NotificationReadDto notificationReadDto =
+                convertAccordingToLanguage(saved, modelMapper.map(saved, NotificationReadDto.class), language);
+        notificationPublisher.created(notificationReadDto);
+        return notificationReadDto;
     }
 
     /**
      * Counts the number of unread notifications for a specific user.
+     * The in-memory counter is used for users connected over STOMP.
      *
      * @param userId the ID of the user whose unread notifications are to be counted.
      * @return the count of unread notifications for the specified user.
      */
     @Override
     public long countUnreadNotifications(final long userId) {
-        return notificationRepository.countByUserIdAndViewedFalse(userId);
+        return notificationPublisher.getUnreadCount(userId)
+                .orElseGet(() -> notificationRepository.countByUserIdAndViewedFalse(userId));
     }
 
     /**
@@ -96,7 +92,7 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public List<NotificationReadDto> getFiveUnreadNotifications(final long userId, final String language) {
         return notificationRepository.findTopFiveByUserIdAndViewedFalseOrderByCreatedDateDesc(userId).stream()
-                .map(o -> convertAccordingToLanguage(modelMapper.map(o, NotificationReadDto.class), language))
+                .map(o -> convertAccordingToLanguage(o, modelMapper.map(o, NotificationReadDto.class), language))
                 .toList();
     }
 
@@ -155,13 +151,14 @@ public class NotificationServiceImpl implements NotificationService {
     public NotificationReadDto getById(final long id, final String language) {
         final Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.NOTIFICATION_NOT_FOUND));
-        return convertAccordingToLanguage(modelMapper.map(notification, NotificationReadDto.class), language);
+        return convertAccordingToLanguage(notification, modelMapper.map(notification, NotificationReadDto.class), language);
     }
 
     /**
      * Marks a notification as viewed.
      * <p>
      * This method fetches a notification by its ID and user ID, ensures it exists, and marks it as viewed.
+     * The change is pushed to the user if the notification was not viewed before.
      *
      * @param id     the ID of the notification to be marked as viewed.
      * @param userId the ID of the user who owns the notification.
@@ -171,13 +168,17 @@ public class NotificationServiceImpl implements NotificationService {
     public void markAsViewed(final long id, long userId) {
         final Notification notification = notificationRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.NOTIFICATION_NOT_FOUND));
-        notification.setViewed(true);
+        if (!notification.isViewed()) {
+            notification.setViewed(true);
+            notificationPublisher.viewedChanged(userId, id, true);
+        }
     }
 
     /**
      * Marks a notification as unviewed.
      * <p>
      * This method fetches a notification by its ID and user ID, ensures it exists, and marks it as unviewed.
+     * The change is pushed to the user if the notification was viewed before.
      *
      * @param id     the ID of the notification to be marked as unviewed.
      * @param userId the ID of the user who owns the notification.
@@ -187,67 +188,55 @@ public class NotificationServiceImpl implements NotificationService {
     public void markAsUnviewed(final long id, long userId) {
         final Notification notification = notificationRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.NOTIFICATION_NOT_FOUND));
-        notification.setViewed(false);
+        if (notification.isViewed()) {
+            notification.setViewed(false);
+            notificationPublisher.viewedChanged(userId, id, false);
+        }
     }
 
     /**
-     * Parses a formatted string into its component parts based on a regular expression.
-     * <p>
-     * This method splits the input string by a regular expression derived from a template string,
-     * returning the parts that match the placeholders in the template.
+     * Starts keeping the unread counter of a user whose STOMP session is connected.
      *
-     * @param stringWithRegExp the template string containing placeholders (e.g., "%s").
-     * @param formattedString  the string to be parsed.
-     * @return an array of strings representing the parts of the formatted string that match the placeholders.
+     * @param userId the ID of the connected user.
      */
-    private String[] parse(final String stringWithRegExp, final String formattedString) {
-        final String[] parts = stringWithRegExp.split("%s");
-        final String regExp = createRegExp(parts);
-        return Arrays.stream(formattedString.split(regExp))
-                .filter(s -> !s.isEmpty())
-                .toArray(String[]::new);
+    @Transactional(readOnly = true)
+    @Override
+    public void userConnected(final long userId) {
+        notificationPublisher.connected(userId);
     }
 
     /**
-     * Creates a regular expression pattern based on the provided array of string parts.
-     * Each part is wrapped in parentheses to form a capturing group, and the parts are
-     * joined together with a "|" character to form an "or" pattern in the regular expression.
+     * Releases the unread counter of a user when the last STOMP session of the user is closed.
      *
-     * @param parts an array of strings, each representing a segment of the pattern.
-     * @return a regular expression string that matches any of the provided parts.
+     * @param userId the ID of the disconnected user.
      */
-    private static String createRegExp(final String[] parts) {
-        return Arrays.stream(parts)
-                .map(s -> "(" + s + ")")
-                .collect(Collectors.joining("|"));
+    @Override
+    public void userDisconnected(final long userId) {
+        notificationPublisher.disconnected(userId);
     }
 
     /**
      * Converts the given {@link NotificationReadDto} into the specified language.
-     * If the requested language matches the default language (set by {@link #locale}),
-     * the method retrieves the title and message from the resource bundle, extracts the parameters
-     * used in these strings, and formats the localized title and message accordingly.
+     * If the requested language differs from the default one, the title and message are rendered
+     * from the precompiled templates of that language with the parameters stored in the notification.
+     * Parameters of notifications saved before they were stored are taken from the default language text.
      *
+     * @param notification        the notification entity holding the template parameters.
      * @param notificationReadDto the notification data transfer object to be localized.
-     * @param language the language code used to localize the notification's title and message.
+     * @param language            the language code used to localize the notification's title and message.
      * @return a {@link NotificationReadDto} with the title and message localized to the specified language.
      */
-    private NotificationReadDto convertAccordingToLanguage(final NotificationReadDto notificationReadDto, final String language) {
-        final ResourceBundle resourceBundleForSpecificLanguage = ResourceBundle.getBundle(notificationBundle, Locale.forLanguageTag(language),
-                ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES));
-        final ResourceBundle resourceBundle = ResourceBundle.getBundle(notificationBundle, locale);
-
-        if (!locale.getLanguage().equals(language)) {
-            final String title = resourceBundle.getString(notificationReadDto.getType().name() + titleInBundle);
-            final String message = resourceBundle.getString(notificationReadDto.getType().name() + messageInBundle);
-            final String[] titleParams = parse(title, notificationReadDto.getTitle());
-            final String[] messageParams = parse(message, notificationReadDto.getMessage());
-            final String titleInLanguage = resourceBundleForSpecificLanguage.getString(notificationReadDto.getType().name() + titleInBundle)
-                    .formatted((Object[]) titleParams);
-            final String messageInLanguage = resourceBundleForSpecificLanguage.getString(notificationReadDto.getType().name() + messageInBundle)
-                    .formatted((Object[]) messageParams);
-            notificationReadDto.setTitle(titleInLanguage);
-            notificationReadDto.setMessage(messageInLanguage);
+    private NotificationReadDto convertAccordingToLanguage(final Notification notification,
+                                                           final NotificationReadDto notificationReadDto,
+                                                           final String language) {
+        if (!NotificationTemplates.DEFAULT_LANGUAGE.equals(language)) {
+            final NotificationType type = notificationReadDto.getType();
+            final String[] titleParams = notification.getTitleParams() != null ? notification.getTitleParams()
+                    : notificationTemplates.parseTitle(type, notificationReadDto.getTitle());
+            final String[] messageParams = notification.getMessageParams() != null ? notification.getMessageParams()
+                    : notificationTemplates.parseMessage(type, notificationReadDto.getMessage());
+            notificationReadDto.setTitle(notificationTemplates.renderTitle(type, language, titleParams));
+            notificationReadDto.setMessage(notificationTemplates.renderMessage(type, language, messageParams));
         }
         return notificationReadDto;
     }
@@ -261,7 +250,8 @@ public class NotificationServiceImpl implements NotificationService {
      * @return a {@link Page} of {@link NotificationReadDto} objects with localized titles and messages.
      */
     private Page<NotificationReadDto> convertToPageDto(final Page<Notification> page, final String language) {
-        return page.map(notification -> convertAccordingToLanguage(modelMapper.map(notification, NotificationReadDto.class), language));
+        return page.map(notification -> convertAccordingToLanguage(notification,
+                modelMapper.map(notification, NotificationReadDto.class), language));
     }
 
     /**
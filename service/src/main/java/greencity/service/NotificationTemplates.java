@@ -0,0 +1,157 @@
+package greencity.service;
+
+import greencity.enums.NotificationType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable table of notification titles and messages for every supported language.
+ * Templates are read from the {@value #BUNDLE} resource bundles once at startup and
+ * split on their {@code %s} placeholders, so rendering is plain concatenation.
+ */
+@Component
+public class NotificationTemplates {
+    static final String DEFAULT_LANGUAGE = "en";
+    private static final String BUNDLE = "notifications";
+    private static final String PLACEHOLDER = "%s";
+    private static final String TITLE_SUFFIX = "_TITLE";
+    private static final String MESSAGE_SUFFIX = "_MESSAGE";
+    private final Map<String, Map<NotificationType, Template>> titles;
+    private final Map<String, Map<NotificationType, Template>> messages;
+
+    /**
+     * Constructor.
+     *
+     * @param languages codes of languages which have notification bundles.
+     */
+    public NotificationTemplates(@Value("${greencity.notification.languages:en,ua}") List<String> languages) {
+        Map<String, Map<NotificationType, Template>> titlesByLanguage = new HashMap<>();
+        Map<String, Map<NotificationType, Template>> messagesByLanguage = new HashMap<>();
+        for (String language : languages) {
+            final ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE, Locale.forLanguageTag(language),
+                    ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES));
+            Map<NotificationType, Template> languageTitles = new EnumMap<>(NotificationType.class);
+            Map<NotificationType, Template> languageMessages = new EnumMap<>(NotificationType.class);
+            for (NotificationType type : NotificationType.values()) {
+                languageTitles.put(type, new Template(bundle.getString(type.name() + TITLE_SUFFIX)));
+                languageMessages.put(type, new Template(bundle.getString(type.name() + MESSAGE_SUFFIX)));
+            }
+            titlesByLanguage.put(language, languageTitles);
+            messagesByLanguage.put(language, languageMessages);
+        }
+        this.titles = Map.copyOf(titlesByLanguage);
+        this.messages = Map.copyOf(messagesByLanguage);
+    }
+
+    /**
+     * Renders title of notification.
+     *
+     * @param type     type of notification.
+     * @param language code of language.
+     * @param params   values of placeholders, may be {@code null}.
+     * @return rendered title.
+     * @throws MissingResourceException if language is not supported.
+     */
+    public String renderTitle(final NotificationType type, final String language, final String[] params) {
+        return get(titles, type, language).render(params);
+    }
+
+    /**
+     * Renders message of notification.
+     *
+     * @param type     type of notification.
+     * @param language code of language.
+     * @param params   values of placeholders, may be {@code null}.
+     * @return rendered message.
+     * @throws MissingResourceException if language is not supported.
+     */
+    public String renderMessage(final NotificationType type, final String language, final String[] params) {
+        return get(messages, type, language).render(params);
+    }
+
+    /**
+     * Extracts placeholder values from title rendered in {@link #DEFAULT_LANGUAGE}. Used for
+     * notifications stored before their parameters were saved.
+     *
+     * @param type  type of notification.
+     * @param title title in default language.
+     * @return values of placeholders, empty if title does not match the template.
+     */
+    public String[] parseTitle(final NotificationType type, final String title) {
+        return get(titles, type, DEFAULT_LANGUAGE).parse(title);
+    }
+
+    /**
+     * Extracts placeholder values from message rendered in {@link #DEFAULT_LANGUAGE}. Used for
+     * notifications stored before their parameters were saved.
+     *
+     * @param type    type of notification.
+     * @param message message in default language.
+     * @return values of placeholders, empty if message does not match the template.
+     */
+    public String[] parseMessage(final NotificationType type, final String message) {
+        return get(messages, type, DEFAULT_LANGUAGE).parse(message);
+    }
+
+    private static Template get(final Map<String, Map<NotificationType, Template>> templates,
+                                final NotificationType type, final String language) {
+        final Map<NotificationType, Template> languageTemplates = templates.get(language);
+        if (languageTemplates == null) {
+            throw new MissingResourceException("Notifications are not translated into " + language,
+                    BUNDLE, String.valueOf(language));
+        }
+        return languageTemplates.get(type);
+    }
+
+    /**
+     * Template split on its placeholders.
+     */
+    private static final class Template {
+        private final String raw;
+        private final String[] parts;
+        private final Pattern pattern;
+
+        private Template(final String raw) {
+            this.raw = raw;
+            this.parts = raw.split(Pattern.quote(PLACEHOLDER), -1);
+            final StringBuilder regExp = new StringBuilder(Pattern.quote(parts[0]));
+            for (int i = 1; i < parts.length; i++) {
+                regExp.append("(.*)").append(Pattern.quote(parts[i]));
+            }
+            this.pattern = Pattern.compile(regExp.toString(), Pattern.DOTALL);
+        }
+
+        private String render(final String[] params) {
+            if (params == null || params.length == 0 || parts.length == 1) {
+                return raw;
+            }
+            final StringBuilder result = new StringBuilder(parts[0]);
+            for (int i = 1; i < parts.length; i++) {
+                result.append(i <= params.length ? params[i - 1] : PLACEHOLDER).append(parts[i]);
+            }
+            return result.toString();
+        }
+
+        private String[] parse(final String rendered) {
+            final Matcher matcher = pattern.matcher(rendered == null ? "" : rendered);
+            if (!matcher.matches()) {
+                return new String[0];
+            }
+            final String[] params = new String[matcher.groupCount()];
+            for (int i = 0; i < params.length; i++) {
+                params[i] = matcher.group(i + 1);
+            }
+            return params;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import greencity.entity.RatingStatistics;
 import greencity.entity.RatingStatistics_;
 import greencity.filters.RatingStatisticsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.repository.RatingStatisticsExportRepo;
 import greencity.repository.RatingStatisticsRepo;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -18,12 +19,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @AllArgsConstructor
 @Service
 public class RatingStatisticsServiceImpl implements RatingStatisticsService {
+    private static final int EXPORT_CHUNK_SIZE = 500;
     private RatingStatisticsRepo ratingStatisticsRepo;
+    private final RatingStatisticsExportRepo ratingStatisticsExportRepo;
     private final ModelMapper modelMapper;
 
     private PageableAdvancedDto<RatingStatisticsDtoForTables> ratingStatisticsDtoMapper(
@@ -68,19 +72,14 @@ public class RatingStatisticsServiceImpl implements RatingStatisticsService {
         return ratingStatisticsDtoMapper(ratingStatistics);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<RatingStatisticsDto> getAllRatingStatistics() {
-        return ratingStatisticsRepo.findAll().stream()
-            .map(ratingStat -> modelMapper.map(ratingStat, RatingStatisticsDto.class))
-            .collect(Collectors.toList());
-    }
-
-    @Override
-    public List<RatingStatisticsDto> getFilteredRatingStatisticsForExcel(
-        RatingStatisticsViewDto ratingStatisticsViewDto) {
-        return ratingStatisticsRepo.findAll(getSpecification(ratingStatisticsViewDto)).stream()
-            .map(ratingStat -> modelMapper.map(ratingStat, RatingStatisticsDto.class))
-            .collect(Collectors.toList());
+    public void exportRatingStatistics(RatingStatisticsViewDto ratingStatisticsViewDto,
+        Consumer<RatingStatisticsDto> consumer) {
+        RatingStatisticsSpecification specification =
+            ratingStatisticsViewDto == null ? null : getSpecification(ratingStatisticsViewDto);
+        ratingStatisticsExportRepo.forEach(specification, EXPORT_CHUNK_SIZE,
+            ratingStat -> consumer.accept(modelMapper.map(ratingStat, RatingStatisticsDto.class)));
     }
 
     @Override
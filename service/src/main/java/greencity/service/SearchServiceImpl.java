@@ -2,31 +2,96 @@ package greencity.service;
 
 import greencity.dto.PageableDto;
 import greencity.dto.search.SearchEventsDto;
+import greencity.dto.search.SearchHabitsDto;
 import greencity.dto.search.SearchNewsDto;
 import greencity.dto.search.SearchResponseDto;
-import lombok.AllArgsConstructor;
+import greencity.entity.HabitTranslation;
+import greencity.repository.HabitTranslationRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
 @Service
-@AllArgsConstructor
 public class SearchServiceImpl implements SearchService {
+    private static final int PREVIEW_SIZE = 3;
+    private static final String ECO_NEWS = "ecoNews";
+    private static final String EVENTS = "events";
+    private static final String HABITS = "habits";
     private final EcoNewsService ecoNewsService;
     private final EventService eventService;
+    private final HabitTranslationRepo habitTranslationRepo;
+    private final ThreadPoolExecutor searchExecutor;
+    private final long domainTimeoutMillis;
+
+    /**
+     * Constructor.
+     */
+    public SearchServiceImpl(EcoNewsService ecoNewsService, EventService eventService,
+        HabitTranslationRepo habitTranslationRepo,
+        @Value("${greencity.search.threads:8}") int threads,
+        @Value("${greencity.search.queue-capacity:100}") int queueCapacity,
+        @Value("${greencity.search.domain-timeout-millis:2000}") long domainTimeoutMillis) {
+        this.ecoNewsService = ecoNewsService;
+        this.eventService = eventService;
+        this.habitTranslationRepo = habitTranslationRepo;
+        this.searchExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+        this.domainTimeoutMillis = domainTimeoutMillis;
+    }
 
     /**
-     * Method that allow you to search {@link SearchResponseDto}.
+     * Method that allow you to search {@link SearchResponseDto}. Eco news, events
+     * and habits are searched in parallel, a domain which does not answer in time
+     * or fails is returned empty and listed in incomplete types. A domain that
+     * times out is cancelled and its queries are stopped by the JDBC query
+     * timeout; when the bounded search queue is full, domains are skipped at once.
      *
      * @param searchQuery query to search
      * @return list of {@link SearchResponseDto}
      */
     @Override
     public SearchResponseDto search(String searchQuery, String languageCode) {
-        PageableDto<SearchNewsDto> ecoNews = ecoNewsService.search(searchQuery, languageCode);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(domainTimeoutMillis);
+        Future<PageableDto<SearchNewsDto>> ecoNews =
+            searchDomain(() -> ecoNewsService.search(searchQuery, languageCode));
+        Future<PageableDto<SearchEventsDto>> events =
+            searchDomain(() -> eventService.search(PageRequest.of(0, PREVIEW_SIZE), searchQuery));
+        Future<PageableDto<SearchHabitsDto>> habits =
+            searchDomain(() -> searchHabits(PageRequest.of(0, PREVIEW_SIZE), searchQuery, languageCode));
+
+        List<String> incompleteTypes = new ArrayList<>();
+        PageableDto<SearchNewsDto> ecoNewsResult = resultOf(ECO_NEWS, ecoNews, deadline, incompleteTypes);
+        PageableDto<SearchEventsDto> eventsResult = resultOf(EVENTS, events, deadline, incompleteTypes);
+        PageableDto<SearchHabitsDto> habitsResult = resultOf(HABITS, habits, deadline, incompleteTypes);
 
         return SearchResponseDto.builder()
-            .ecoNews(ecoNews.getPage())
-            .countOfResults(ecoNews.getTotalElements())
+            .ecoNews(ecoNewsResult.getPage())
+            .events(eventsResult.getPage())
+            .habits(habitsResult.getPage())
+            .countOfEcoNews(ecoNewsResult.getTotalElements())
+            .countOfEvents(eventsResult.getTotalElements())
+            .countOfHabits(habitsResult.getTotalElements())
+            .countOfResults(ecoNewsResult.getTotalElements() + eventsResult.getTotalElements()
+                + habitsResult.getTotalElements())
+            .incompleteTypes(incompleteTypes)
             .build();
     }
 
@@ -42,4 +107,55 @@ public class SearchServiceImpl implements SearchService {
     public PageableDto<SearchEventsDto> searchAllEvents(Pageable pageable, String searchQuery) {
         return eventService.search(pageable, searchQuery);
     }
+
+    private PageableDto<SearchHabitsDto> searchHabits(Pageable pageable, String searchQuery, String languageCode) {
+        Page<HabitTranslation> page = habitTranslationRepo.searchNotCustomHabits(pageable, searchQuery, languageCode);
+        List<SearchHabitsDto> habits = page.stream()
+            .map(translation -> SearchHabitsDto.builder()
+                .id(translation.getHabit().getId())
+                .name(translation.getName())
+                .description(translation.getDescription())
+                .image(translation.getHabit().getImage())
+                .build())
+            .toList();
+        return new PageableDto<>(habits, page.getTotalElements(), page.getNumber(), page.getTotalPages());
+    }
+
+    private <T> Future<PageableDto<T>> searchDomain(Supplier<PageableDto<T>> searcher) {
+        try {
+            return searchExecutor.submit(searcher::get);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> PageableDto<T> resultOf(String type, Future<PageableDto<T>> future, long deadline,
+        List<String> incompleteTypes) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return skip(type, future, e, incompleteTypes);
+        } catch (ExecutionException e) {
+            return skip(type, future, e.getCause(), incompleteTypes);
+        } catch (TimeoutException e) {
+            return skip(type, future, e, incompleteTypes);
+        }
+    }
+
+    private static <T> PageableDto<T> skip(String type, Future<?> future, Throwable cause,
+        List<String> incompleteTypes) {
+        future.cancel(true);
+        log.warn("Search of {} is skipped: {}", type, cause.toString());
+        incompleteTypes.add(type);
+        return new PageableDto<>(Collections.emptyList(), 0, 0, 0);
+    }
+
+    /**
+     * Stops search threads on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdown();
+    }
 }
@@ -17,6 +17,7 @@ import greencity.exception.exceptions.WrongEmailException;
 import greencity.exception.exceptions.WrongIdException;
 import greencity.repository.UserRepo;
 import greencity.repository.options.UserFilter;
+import greencity.security.service.PrincipalCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
@@ -25,6 +26,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -38,6 +41,7 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
     private final UserRepo userRepo;
     private final ModelMapper modelMapper;
+    private final PrincipalCacheService principalCacheService;
     @Value("300000")
     private long timeAfterLastActivity;
 
@@ -103,6 +107,7 @@ public class UserServiceImpl implements UserService {
         UserVO userVO = findById(id);
         userVO.setUserStatus(userStatus);
         userRepo.updateUserStatus(id, String.valueOf(userStatus));
+        evictAfterCommit(userVO.getEmail());
         return modelMapper.map(userVO, UserStatusDto.class);
     }
 
@@ -125,6 +130,7 @@ public class UserServiceImpl implements UserService {
             .orElseThrow(() -> new WrongIdException(ErrorMessage.USER_NOT_FOUND_BY_ID + id));
         user.setRole(role);
         userRepo.save(user);
+        evictAfterCommit(user.getEmail());
         return modelMapper.map(user, UserRoleDto.class);
     }
 
@@ -226,4 +232,24 @@ public class UserServiceImpl implements UserService {
         }
         return new UserFilterDto(criteria, role, status);
     }
+
+    /**
+     * Evicts cached principal of user after the surrounding transaction commits,
+     * so that a concurrent request can not cache the old state again before the
+     * change is visible. Evicts immediately when there is no transaction.
+     *
+     * @param email email of changed user.
+     */
+    private void evictAfterCommit(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCacheService.evict(email);
+                }
+            });
+        } else {
+            principalCacheService.evict(email);
+        }
+    }
 }
@@ -181,14 +181,15 @@ public class ModelUtils {
         tag.setTagTranslations(
             List.of(TagTranslation.builder().name("Новини").language(Language.builder().code("ua").build()).build(),
                 TagTranslation.builder().name("News").language(Language.builder().code("en").build()).build()));
-        return new EcoNews(1L, zonedDateTime, TestConst.SITE, "source", "shortInfo", getUser(),
+        return new EcoNews(1L, zonedDateTime, TestConst.SITE, null, "source", "shortInfo", getUser(),
             "title", "text", List.of(EcoNewsComment.builder().id(1L).text("test").build()),
-            Collections.singletonList(tag), Collections.emptySet(), Collections.emptySet());
+            Collections.singletonList(tag), Collections.emptySet(), Collections.emptySet(), 0, 0);
     }
 
     public static EcoNews getEcoNewsForFindDtoByIdAndLanguage() {
-        return new EcoNews(1L, null, TestConst.SITE, null, "shortInfo", getUser(),
-            "title", "text", null, Collections.singletonList(getTag()), Collections.emptySet(), Collections.emptySet());
+        return new EcoNews(1L, null, TestConst.SITE, null, null, "shortInfo", getUser(),
+            "title", "text", null, Collections.singletonList(getTag()), Collections.emptySet(), Collections.emptySet(),
+            0, 0);
     }
 
     public static EcoNewsVO getEcoNewsVO() {
@@ -474,7 +475,8 @@ public class ModelUtils {
 
     public static EcoNewsDto getEcoNewsDto() {
         return new EcoNewsDto(ZonedDateTime.now(), "imagePath", 1L, "title", "content", "text",
-            getEcoNewsAuthorDto(), Collections.singletonList("tag"), Collections.singletonList("тег"), 1, 0, 0);
+            getEcoNewsAuthorDto(), Collections.singletonList("tag"), Collections.singletonList("тег"), 1, 0, 0,
+            null, null);
     }
 
     public static EcoNewsGenericDto getEcoNewsGenericDto() {
@@ -482,12 +484,13 @@ public class ModelUtils {
         String[] tagsUa = {"Новини"};
         return new EcoNewsGenericDto(1L, "title", "text", "shortInfo",
             ModelUtils.getEcoNewsAuthorDto(), zonedDateTime, "https://google.com/", "source",
-            List.of(tagsUa), List.of(tagsEn), 0, 1, 0);
+            List.of(tagsUa), List.of(tagsEn), 0, 1, 0, null, null);
     }
 
     public static EcoNewsDto getEcoNewsDtoForFindDtoByIdAndLanguage() {
         return new EcoNewsDto(null, TestConst.SITE, 1L, "title", "text", "shortInfo",
-            getEcoNewsAuthorDto(), Collections.singletonList("News"), Collections.singletonList("Новини"), 0, 0, 0);
+            getEcoNewsAuthorDto(), Collections.singletonList("News"), Collections.singletonList("Новини"), 0, 0, 0,
+            null, null);
     }
 
     public static UpdateEcoNewsDto getUpdateEcoNewsDto() {
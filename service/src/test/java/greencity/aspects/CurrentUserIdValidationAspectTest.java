@@ -0,0 +1,75 @@
+package greencity.aspects;
+
+import greencity.annotations.CurrentUserId;
+import greencity.client.RestClient;
+import greencity.dto.user.UserVO;
+import greencity.exception.exceptions.NotCurrentUserException;
+import greencity.security.CurrentUserContext;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserIdValidationAspectTest {
+    @Mock
+    private RestClient restClient;
+    @Mock
+    private JoinPoint joinPoint;
+    @Mock
+    private MethodSignature signature;
+    @InjectMocks
+    private CurrentUserIdValidationAspect aspect;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void validateCurrentUserIdParameterUsesCurrentUserContextTest() throws NoSuchMethodException {
+        authenticate(1L);
+        mockJoinPoint(1L);
+
+        assertDoesNotThrow(() -> aspect.validateCurrentUserIdParameter(joinPoint));
+        assertDoesNotThrow(() -> aspect.validateCurrentUserIdParameter(joinPoint));
+
+        verifyNoInteractions(restClient);
+    }
+
+    @Test
+    void validateCurrentUserIdParameterThrowsNotCurrentUserExceptionTest() throws NoSuchMethodException {
+        authenticate(2L);
+        mockJoinPoint(1L);
+
+        assertThrows(NotCurrentUserException.class, () -> aspect.validateCurrentUserIdParameter(joinPoint));
+    }
+
+    private void authenticate(Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        CurrentUserContext.set(request, UserVO.builder().id(userId).build());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private void mockJoinPoint(Long userId) throws NoSuchMethodException {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(TestController.class.getMethod("get", Long.class, Long.class));
+        when(joinPoint.getTarget()).thenReturn(new TestController());
+        when(joinPoint.getArgs()).thenReturn(new Object[] {5L, userId});
+    }
+
+    static class TestController {
+        public void get(Long id, @CurrentUserId Long userId) {
+        }
+    }
+}
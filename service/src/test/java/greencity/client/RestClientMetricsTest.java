@@ -0,0 +1,84 @@
+package greencity.client;
+
+import greencity.dto.client.ConnectionPoolStatisticsDto;
+import greencity.dto.client.RouteStatisticsDto;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RestClientMetricsTest {
+    @Mock
+    private ClientHttpRequestExecution execution;
+    @Mock
+    private ConnPoolControl<HttpHost> connectionPool;
+
+    @Test
+    void routeOfReplacesIdSegmentsTest() {
+        assertEquals("user/{id}/language", RestClientMetrics.routeOf(URI.create("http://host/user/15/language")));
+        assertEquals("user/findByEmail", RestClientMetrics.routeOf(URI.create("http://host/user/findByEmail?email=a")));
+    }
+
+    @Test
+    void interceptRecordsRequestsPerRouteTest() throws IOException {
+        RestClientMetrics metrics = new RestClientMetrics(null, 60_000);
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://host/user/1"));
+        when(execution.execute(any(), any()))
+            .thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK))
+            .thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE))
+            .thenThrow(new IOException());
+
+        metrics.intercept(request, new byte[0], execution);
+        metrics.intercept(request, new byte[0], execution);
+        assertThrows(IOException.class, () -> metrics.intercept(request, new byte[0], execution));
+
+        List<RouteStatisticsDto> statistics = metrics.getRouteStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals("GET user/{id}", statistics.get(0).getRoute());
+        assertEquals(3, statistics.get(0).getRequestCount());
+        assertEquals(2, statistics.get(0).getErrorCount());
+    }
+
+    @Test
+    void getPoolStatisticsTest() {
+        when(connectionPool.getTotalStats()).thenReturn(new PoolStats(10, 2, 0, 10));
+
+        ConnectionPoolStatisticsDto statistics = new RestClientMetrics(connectionPool, 1000)
+            .getPoolStatistics().orElseThrow();
+
+        assertEquals(10, statistics.getLeased());
+        assertEquals(2, statistics.getPending());
+        assertTrue(statistics.isSaturated());
+    }
+
+    @Test
+    void getPoolStatisticsWithoutPoolTest() {
+        assertTrue(new RestClientMetrics(null, 1000).getPoolStatistics().isEmpty());
+    }
+
+    @Test
+    void logStatisticsReadsPoolStatisticsTest() {
+        when(connectionPool.getTotalStats()).thenReturn(new PoolStats(1, 0, 9, 10));
+
+        new RestClientMetrics(connectionPool, 1000).logStatistics();
+
+        verify(connectionPool).getTotalStats();
+    }
+}
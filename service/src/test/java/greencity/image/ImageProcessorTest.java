@@ -0,0 +1,127 @@
+package greencity.image;
+
+import greencity.exception.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageProcessorTest {
+    private final ImageProcessor imageProcessor = new ImageProcessor(0.8f, 50_000_000);
+
+    @Test
+    void processDownscalesEveryVariantToJpeg() throws IOException {
+        Map<ImageVariant, MultipartFile> variants = imageProcessor.process(png(2400, 1200));
+
+        assertEquals(ImageVariant.values().length, variants.size());
+        for (ImageVariant variant : ImageVariant.values()) {
+            MultipartFile file = variants.get(variant);
+            assertEquals("image/jpeg", file.getContentType());
+            assertTrue(file.getOriginalFilename().endsWith("-" + variant.getSuffix() + ".jpg"));
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(file.getBytes()));
+            assertEquals(variant.getMaxSize(), image.getWidth());
+            assertEquals(variant.getMaxSize() / 2, image.getHeight());
+        }
+    }
+
+    @Test
+    void processDoesNotUpscaleSmallImage() throws IOException {
+        MultipartFile thumbnail = imageProcessor.process(png(100, 50)).get(ImageVariant.THUMBNAIL);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail.getBytes()));
+        assertEquals(100, image.getWidth());
+        assertEquals(50, image.getHeight());
+    }
+
+    @Test
+    void processSubsamplesBigImage() throws IOException {
+        MultipartFile full = imageProcessor.process(png(3840, 1920)).get(ImageVariant.FULL);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(full.getBytes()));
+        assertEquals(1920, image.getWidth());
+        assertEquals(960, image.getHeight());
+    }
+
+    @Test
+    void processRejectsImageWithTooManyPixels() throws IOException {
+        ImageProcessor processor = new ImageProcessor(0.8f, 10_000);
+        MultipartFile image = png(200, 100);
+
+        assertThrows(BadRequestException.class, () -> processor.process(image));
+    }
+
+    @Test
+    void processAppliesExifOrientation() throws IOException {
+        BufferedImage original = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = original.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 20, 20);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(20, 0, 20, 20);
+        graphics.dispose();
+
+        MultipartFile thumbnail = imageProcessor.process(jpegRotatedClockwise(original))
+            .get(ImageVariant.THUMBNAIL);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail.getBytes()));
+        assertEquals(20, image.getWidth());
+        assertEquals(40, image.getHeight());
+        Color top = new Color(image.getRGB(10, 5));
+        Color bottom = new Color(image.getRGB(10, 35));
+        assertTrue(top.getRed() > top.getBlue());
+        assertTrue(bottom.getBlue() > bottom.getRed());
+    }
+
+    @Test
+    void exifOrientationOfImageWithoutExifIsNormal() throws IOException {
+        assertEquals(1, ImageProcessor.exifOrientation(png(10, 10).getBytes()));
+    }
+
+    @Test
+    void processThrowsBadRequestExceptionForNotImage() {
+        MultipartFile file = new MockMultipartFile("image", "image.png", "image/png",
+            "not an image".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> imageProcessor.process(file));
+    }
+
+    /**
+     * Writes JPEG with EXIF APP1 segment that has orientation 6, i.e. the image
+     * has to be rotated clockwise to be displayed.
+     */
+    private static MultipartFile jpegRotatedClockwise(BufferedImage image) throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", jpeg);
+        byte[] bytes = jpeg.toByteArray();
+        int app0End = 4 + ((bytes[4] & 0xFF) << 8 | bytes[5] & 0xFF);
+        byte[] exif = {
+            (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+            'E', 'x', 'i', 'f', 0x00, 0x00,
+            'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+            0x00, 0x01,
+            0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, 0x06, 0x00, 0x00,
+            0x00, 0x00, 0x00, 0x00};
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(bytes, 0, app0End);
+        outputStream.write(exif);
+        outputStream.write(bytes, app0End, bytes.length - app0End);
+        return new MockMultipartFile("image", "image.jpg", "image/jpeg", outputStream.toByteArray());
+    }
+
+    private static MultipartFile png(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", outputStream);
+        return new MockMultipartFile("image", "image.png", "image/png", outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,59 @@
+package greencity.image;
+
+import greencity.service.FileService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageUploaderTest {
+    @Mock
+    private ImageProcessor imageProcessor;
+    @Mock
+    private FileService fileService;
+    @InjectMocks
+    private ImageUploader imageUploader;
+
+    @Test
+    void uploadAllUploadsVariantsOfAllImagesAtOnce() {
+        MultipartFile first = file("first");
+        MultipartFile second = file("second");
+        when(imageProcessor.process(first)).thenReturn(variants("first"));
+        when(imageProcessor.process(second)).thenReturn(variants("second"));
+        when(fileService.uploadAll(anyList())).thenAnswer(invocation -> invocation.<List<MultipartFile>>getArgument(0)
+            .stream()
+            .map(file -> "url/" + file.getOriginalFilename())
+            .toList());
+
+        List<UploadedImage> uploaded = imageUploader.uploadAll(List.of(first, second));
+
+        assertEquals(2, uploaded.size());
+        assertEquals("url/first-full", uploaded.get(0).path());
+        assertEquals("url/first-thumbnail", uploaded.get(0).variants().getThumbnailPath());
+        assertEquals("url/first-card", uploaded.get(0).variants().getCardPath());
+        assertEquals("url/second-full", uploaded.get(1).path());
+        assertEquals("url/second-card", uploaded.get(1).variants().getCardPath());
+        verify(fileService).uploadAll(anyList());
+    }
+
+    private static Map<ImageVariant, MultipartFile> variants(String name) {
+        return Map.of(
+            ImageVariant.THUMBNAIL, file(name + "-thumbnail"),
+            ImageVariant.CARD, file(name + "-card"),
+            ImageVariant.FULL, file(name + "-full"));
+    }
+
+    private static MultipartFile file(String name) {
+        return new MockMultipartFile("image", name, "image/jpeg", new byte[] {1});
+    }
+}
@@ -65,11 +65,10 @@ class EcoNewsDtoMapperTest {
         when(ecoNews.getText()).thenReturn("Some content");
         when(ecoNews.getCreationDate()).thenReturn(ZonedDateTime.now());
         when(ecoNews.getImagePath()).thenReturn("path/to/image");
-        when(ecoNews.getUsersLikedNews()).thenReturn(Collections.emptySet());
         when(ecoNews.getShortInfo()).thenReturn("short info");
         when(ecoNews.getTags()).thenReturn(List.of(tag));
-        when(ecoNews.getUsersLikedNews()).thenReturn(Collections.emptySet());
-        when(ecoNews.getUsersDislikedNews()).thenReturn(Collections.emptySet());
+        when(ecoNews.getLikesCount()).thenReturn(3);
+        when(ecoNews.getDislikesCount()).thenReturn(1);
         when(ecoNews.getTitle()).thenReturn("Tittle");
         when(ecoNews.getEcoNewsComments()).thenReturn(Collections.emptyList());
 
@@ -80,6 +79,8 @@ class EcoNewsDtoMapperTest {
         assertEquals("path/to/image", ecoNewsDto.getImagePath());
         assertEquals("short info", ecoNewsDto.getShortInfo());
         assertEquals("Tittle", ecoNewsDto.getTitle());
+        assertEquals(3, ecoNewsDto.getLikes());
+        assertEquals(1, ecoNewsDto.getDislikes());
         assertEquals("Environment", ecoNewsDto.getTags().getFirst());
         assertEquals("Екологія", ecoNewsDto.getTagsUa().getFirst());
     }
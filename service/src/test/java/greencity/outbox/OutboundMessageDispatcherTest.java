@@ -0,0 +1,243 @@
+package greencity.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.client.RestClient;
+import greencity.entity.OutboundMessage;
+import greencity.enums.OutboundMessageStatus;
+import greencity.dto.econews.EcoNewsForSendEmailDto;
+import greencity.dto.event.EventForSendEmailDto;
+import greencity.enums.OutboundMessageType;
+import greencity.enums.Role;
+import greencity.exception.exceptions.BulkRequestException;
+import greencity.message.SendHabitNotification;
+import greencity.repository.OutboundMessageRepo;
+import greencity.security.jwt.JwtTool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboundMessageDispatcherTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private OutboundMessageRepo outboundMessageRepo;
+    @Mock
+    private RestClient restClient;
+    @Mock
+    private JwtTool jwtTool;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboundMessageDispatcher dispatcher;
+    private OutboundMessageDispatcher bulkDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = newDispatcher(false);
+        bulkDispatcher = newDispatcher(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+        bulkDispatcher.shutdown();
+    }
+
+    private OutboundMessageDispatcher newDispatcher(boolean bulkEnabled) {
+        return new OutboundMessageDispatcher(outboundMessageRepo, restClient, objectMapper, jwtTool,
+            transactionManager, 2, 100, 2, 1000, 60000, 300000, 1000, 30, bulkEnabled, 1000, 60);
+    }
+
+    @Test
+    void dispatchWithoutMessagesTest() {
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of());
+
+        assertEquals(0, dispatcher.dispatch().getClaimed());
+
+        verifyNoInteractions(restClient);
+        verify(outboundMessageRepo, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void dispatchDeletesSentMessagesTest() throws Exception {
+        OutboundMessage first = message(1L, "first@gmail.com");
+        OutboundMessage second = message(2L, "second@gmail.com");
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of(first, second));
+
+        OutboundMessageDispatcher.DispatchReport report = dispatcher.dispatch();
+
+        assertEquals(2, report.getClaimed());
+        assertEquals(2, report.getSent());
+        assertEquals(0, report.getFailed());
+        verify(restClient, times(2)).sendHabitNotification(any(SendHabitNotification.class));
+        verify(restClient, never()).sendHabitNotifications(any());
+        verify(outboundMessageRepo).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void dispatchSendsMessagesInBulkWhenEnabledTest() throws Exception {
+        OutboundMessage first = message(1L, "first@gmail.com");
+        OutboundMessage second = message(2L, "second@gmail.com");
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of(first, second));
+
+        assertEquals(2, bulkDispatcher.dispatch().getSent());
+
+        verify(restClient).sendHabitNotifications(argThat(notifications -> notifications.size() == 2));
+        verify(restClient, never()).sendHabitNotification(any(SendHabitNotification.class));
+        verify(outboundMessageRepo).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void dispatchRetriesOnlyMessagesOfFailedChunkTest() throws Exception {
+        OutboundMessage first = message(1L, "first@gmail.com");
+        OutboundMessage second = message(2L, "second@gmail.com");
+        OutboundMessage third = message(3L, "third@gmail.com");
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of(first, second, third));
+        doThrow(new BulkRequestException("1 of 3 items were not sent", new RuntimeException("unavailable"),
+            Set.of(2))).when(restClient).sendHabitNotifications(any());
+
+        OutboundMessageDispatcher.DispatchReport report = bulkDispatcher.dispatch();
+
+        assertEquals(2, report.getSent());
+        assertEquals(1, report.getFailed());
+        assertEquals(1, third.getAttempts());
+        assertEquals(0, first.getAttempts());
+        verify(outboundMessageRepo).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboundMessageRepo).saveAll(List.of(third));
+    }
+
+    @Test
+    void dispatchLeasesClaimedMessagesTest() throws Exception {
+        OutboundMessage message = message(1L, "user@gmail.com");
+        ZonedDateTime dueAt = message.getNextAttemptAt();
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of(message));
+
+        dispatcher.dispatch();
+
+        assertTrue(message.getNextAttemptAt().isAfter(dueAt.plusSeconds(200)));
+        verify(outboundMessageRepo).saveAll(List.of(message));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void dispatchSendsMessageWithTokenOfSenderTest() throws Exception {
+        OutboundMessage message = OutboundMessage.builder()
+            .id(1L)
+            .type(OutboundMessageType.EVENT_CREATED)
+            .payload(objectMapper.writeValueAsString(new EventForSendEmailDto()))
+            .senderEmail("author@gmail.com")
+            .status(OutboundMessageStatus.PENDING)
+            .nextAttemptAt(ZonedDateTime.now())
+            .build();
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of(message));
+        when(jwtTool.createAccessToken("author@gmail.com", Role.ROLE_USER, Duration.ofSeconds(60)))
+            .thenReturn("token");
+
+        dispatcher.dispatch();
+
+        verify(restClient).addEvent(argThat(event -> "Bearer token".equals(event.getUnsubscribeToken())),
+            eq("Bearer token"));
+        verify(outboundMessageRepo).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void dispatchSendsEcoNewsWithTokenOfSenderRoleTest() throws Exception {
+        OutboundMessage message = OutboundMessage.builder()
+            .id(1L)
+            .type(OutboundMessageType.ECO_NEWS_CREATED)
+            .payload(objectMapper.writeValueAsString(new EcoNewsForSendEmailDto()))
+            .senderEmail("admin@gmail.com")
+            .senderRole(Role.ROLE_ADMIN)
+            .status(OutboundMessageStatus.PENDING)
+            .nextAttemptAt(ZonedDateTime.now())
+            .build();
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of(message));
+        when(jwtTool.createAccessToken("admin@gmail.com", Role.ROLE_ADMIN, Duration.ofSeconds(60)))
+            .thenReturn("token");
+
+        dispatcher.dispatch();
+
+        verify(restClient).addEcoNews(argThat(ecoNews -> "Bearer token".equals(ecoNews.getUnsubscribeToken())));
+        verify(outboundMessageRepo).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void dispatchPostponesFailedMessageTest() throws Exception {
+        OutboundMessage message = message(1L, "user@gmail.com");
+        ZonedDateTime dueAt = message.getNextAttemptAt();
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of(message));
+        doThrow(new RuntimeException("unavailable")).when(restClient).sendHabitNotification(any());
+
+        OutboundMessageDispatcher.DispatchReport report = dispatcher.dispatch();
+
+        assertEquals(1, report.getFailed());
+        assertEquals(0, report.getDead());
+        assertEquals(1, message.getAttempts());
+        assertEquals(OutboundMessageStatus.PENDING, message.getStatus());
+        assertEquals("unavailable", message.getLastError());
+        assertTrue(message.getNextAttemptAt().isAfter(dueAt));
+        verify(outboundMessageRepo).deleteAllByIdInBatch(List.of());
+    }
+
+    @Test
+    void dispatchMarksMessageDeadAfterLastAttemptTest() throws Exception {
+        OutboundMessage message = message(1L, "user@gmail.com");
+        message.setAttempts(1);
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of(message));
+        doThrow(new RuntimeException("unavailable")).when(restClient).sendHabitNotification(any());
+
+        OutboundMessageDispatcher.DispatchReport report = dispatcher.dispatch();
+
+        assertEquals(1, report.getDead());
+        assertEquals(2, message.getAttempts());
+        assertEquals(OutboundMessageStatus.DEAD, message.getStatus());
+        verify(outboundMessageRepo, times(2)).saveAll(List.of(message));
+    }
+
+    @Test
+    void purgeDeadMessagesTest() {
+        when(outboundMessageRepo.deleteAllByStatusCreatedBefore(eq(OutboundMessageStatus.DEAD), any()))
+            .thenReturn(3);
+
+        assertEquals(3, dispatcher.purgeDeadMessages());
+    }
+
+    @Test
+    void dispatchMarksUnreadableMessageOfBulkDeadTest() throws Exception {
+        OutboundMessage message = message(1L, "user@gmail.com");
+        OutboundMessage unreadable = message(2L, "other@gmail.com");
+        unreadable.setPayload("{");
+        when(outboundMessageRepo.findDueForUpdate(100)).thenReturn(List.of(message, unreadable));
+
+        bulkDispatcher.dispatch();
+
+        assertEquals(OutboundMessageStatus.DEAD, unreadable.getStatus());
+        verify(restClient).sendHabitNotifications(argThat(notifications -> notifications.size() == 1));
+        verify(outboundMessageRepo).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    private OutboundMessage message(Long id, String email) throws Exception {
+        return OutboundMessage.builder()
+            .id(id)
+            .type(OutboundMessageType.HABIT_NOTIFICATION)
+            .payload(objectMapper.writeValueAsString(new SendHabitNotification("name", email)))
+            .status(OutboundMessageStatus.PENDING)
+            .nextAttemptAt(ZonedDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,90 @@
+package greencity.rating;
+
+import greencity.annotations.RatingCalculationEnum;
+import greencity.entity.RatingEvent;
+import greencity.entity.RatingStatistics;
+import greencity.repository.RatingEventRepo;
+import greencity.repository.RatingStatisticsJdbcRepo;
+import greencity.repository.UserRepo;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingEventAggregatorTest {
+    @Mock
+    private RatingEventRepo ratingEventRepo;
+    @Mock
+    private UserRepo userRepo;
+    @Mock
+    private RatingStatisticsJdbcRepo ratingStatisticsJdbcRepo;
+    @Mock
+    private Tuple tuple;
+
+    private RatingEventAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new RatingEventAggregator(ratingEventRepo, userRepo, ratingStatisticsJdbcRepo, 100);
+    }
+
+    @Test
+    void aggregateWithoutEventsTest() {
+        when(ratingEventRepo.findOldestForUpdate(100)).thenReturn(List.of());
+
+        assertEquals(0, aggregator.aggregate());
+
+        verify(userRepo, never()).addRating(anyLong(), anyDouble());
+        verify(ratingStatisticsJdbcRepo, never()).insertAll(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void aggregateAppliesOneUpdatePerUserTest() {
+        List<RatingEvent> events = List.of(
+            event(1L, RatingCalculationEnum.ADD_COMMENT),
+            event(2L, RatingCalculationEnum.LIKE_COMMENT),
+            event(3L, RatingCalculationEnum.UNLIKE_COMMENT));
+        double points = events.stream().mapToDouble(RatingEvent::getPointsChanged).sum();
+        when(ratingEventRepo.findOldestForUpdate(100)).thenReturn(events);
+        when(tuple.get(0, Long.class)).thenReturn(1L);
+        when(tuple.get(1, Double.class)).thenReturn(10 + points);
+        when(userRepo.findRatingsByIds(Set.of(1L))).thenReturn(List.of(tuple));
+
+        assertEquals(3, aggregator.aggregate());
+
+        verify(userRepo).addRating(1L, points);
+        ArgumentCaptor<List<RatingStatistics>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ratingStatisticsJdbcRepo).insertAll(captor.capture());
+        List<RatingStatistics> statistics = captor.getValue();
+        assertEquals(3, statistics.size());
+        assertEquals(10 + events.get(0).getPointsChanged(), statistics.get(0).getRating());
+        assertEquals(10 + points, statistics.get(2).getRating());
+        assertEquals(1L, statistics.get(2).getUser().getId());
+        verify(ratingEventRepo).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    private static RatingEvent event(Long id, RatingCalculationEnum rating) {
+        return RatingEvent.builder()
+            .id(id)
+            .userId(1L)
+            .ratingCalculationEnum(rating)
+            .pointsChanged(rating.getRatingPoints())
+            .createDate(ZonedDateTime.now())
+            .build();
+    }
+}
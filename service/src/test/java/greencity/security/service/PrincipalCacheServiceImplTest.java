@@ -0,0 +1,71 @@
+package greencity.security.service;
+
+import greencity.dto.cache.CacheStatisticsDto;
+import greencity.dto.user.UserVO;
+import greencity.entity.User;
+import greencity.repository.UserRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheServiceImplTest {
+    private static final String EMAIL = "test@gmail.com";
+    @Mock
+    private UserRepo userRepo;
+    @Mock
+    private ModelMapper modelMapper;
+    private PrincipalCacheServiceImpl principalCacheService;
+    private final User user = User.builder().id(1L).email(EMAIL).build();
+    private final UserVO userVO = UserVO.builder().id(1L).email(EMAIL).build();
+
+    @BeforeEach
+    void setUp() {
+        principalCacheService = new PrincipalCacheServiceImpl(userRepo, modelMapper, 100, 60);
+    }
+
+    @Test
+    void findNotDeactivatedByEmailLoadsUserOnlyOnceTest() {
+        when(userRepo.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(modelMapper.map(user, UserVO.class)).thenReturn(userVO);
+
+        assertEquals(Optional.of(userVO), principalCacheService.findNotDeactivatedByEmail(EMAIL));
+        assertEquals(Optional.of(userVO), principalCacheService.findNotDeactivatedByEmail(EMAIL));
+
+        verify(userRepo, times(1)).findNotDeactivatedByEmail(EMAIL);
+        CacheStatisticsDto statistics = principalCacheService.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+    }
+
+    @Test
+    void findNotDeactivatedByEmailCachesAbsentUserTest() {
+        when(userRepo.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertTrue(principalCacheService.findNotDeactivatedByEmail(EMAIL).isEmpty());
+        assertTrue(principalCacheService.findNotDeactivatedByEmail(EMAIL).isEmpty());
+
+        verify(userRepo, times(1)).findNotDeactivatedByEmail(EMAIL);
+        verifyNoInteractions(modelMapper);
+    }
+
+    @Test
+    void evictForcesReloadTest() {
+        when(userRepo.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(modelMapper.map(user, UserVO.class)).thenReturn(userVO);
+
+        principalCacheService.findNotDeactivatedByEmail(EMAIL);
+        principalCacheService.evict(EMAIL);
+        principalCacheService.findNotDeactivatedByEmail(EMAIL);
+
+        verify(userRepo, times(2)).findNotDeactivatedByEmail(EMAIL);
+    }
+}
@@ -1,9 +1,11 @@
 package greencity.service;
 
 import greencity.exception.exceptions.BadRequestException;
+import greencity.exception.exceptions.NotSavedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.modelmapper.ModelMapper;
 import org.springframework.core.env.PropertyResolver;
@@ -12,9 +14,18 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -26,9 +37,52 @@ class AzureCloudStorageServiceTest {
     @Mock
     private PropertyResolver propertyResolver;
 
-    @InjectMocks
     private AzureCloudStorageService azureCloudStorageService;
 
+    @BeforeEach
+    void setUp() {
+        azureCloudStorageService = new AzureCloudStorageService(propertyResolver, modelMapper, 2, 1, 4194304, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        azureCloudStorageService.shutdown();
+    }
+
+    @Test
+    void uploadAllWithoutFilesDoesNotConnectToStorage() {
+        assertEquals(List.of(), azureCloudStorageService.uploadAll(List.of()));
+    }
+
+    @Test
+    void uploadAllUploadsEveryFile() {
+        AzureCloudStorageService service = spy(azureCloudStorageService);
+        List<MultipartFile> files = List.of(file("a"), file("b"), file("c"), file("d"));
+        files.forEach(file -> doReturn("url/" + file.getName()).when(service).upload(file));
+
+        assertEquals(List.of("url/a", "url/b", "url/c", "url/d"), service.uploadAll(files));
+    }
+
+    @Test
+    void uploadAllDeletesUploadedFilesWhenOneFails() {
+        AzureCloudStorageService service = spy(azureCloudStorageService);
+        MultipartFile first = file("a");
+        MultipartFile failed = file("b");
+        MultipartFile last = file("c");
+        NotSavedException failure = new NotSavedException("not saved");
+        doReturn("url/a").when(service).upload(first);
+        doThrow(failure).when(service).upload(failed);
+        doReturn("url/c").when(service).upload(last);
+        doNothing().when(service).delete(anyString());
+
+        assertSame(failure, assertThrows(NotSavedException.class,
+            () -> service.uploadAll(List.of(first, failed, last))));
+
+        verify(service).delete("url/a");
+        verify(service).delete("url/c");
+        verify(service, times(2)).delete(anyString());
+    }
+
     @Test
     void convertToMultipartImageThrowsBadRequestException() {
         when(modelMapper.map("Image", MultipartFile.class)).thenThrow(new BadRequestException("S"));
@@ -41,4 +95,8 @@ class AzureCloudStorageServiceTest {
         when(modelMapper.map("Image", MultipartFile.class)).thenReturn(multipartFile);
         assertEquals(multipartFile, azureCloudStorageService.convertToMultipartImage("Image"));
     }
-}
\ No newline at end of file
+
+    private static MultipartFile file(String name) {
+        return new MockMultipartFile(name, name.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -13,8 +13,10 @@ import greencity.enums.Role;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
+import greencity.rating.RatingCalculation;
 import greencity.repository.EcoNewsCommentRepo;
 import greencity.repository.EcoNewsRepo;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,7 +31,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
-import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
@@ -54,14 +55,12 @@ class EcoNewsCommentServiceImplTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
     @Mock
-    private HttpServletRequest httpServletRequest;
+    private RatingCalculation ratingCalculation;
     @Mock
     EcoNewsRepo ecoNewsRepo;
     @InjectMocks
     private EcoNewsCommentServiceImpl ecoNewsCommentService;
 
-    private String token = "token";
-
     @Test
     void saveCommentWithNoParentCommentId() {
         UserVO userVO = getUserVO();
@@ -176,7 +175,10 @@ class EcoNewsCommentServiceImplTest {
         when(ecoNewsCommentRepo.findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(pageable, ecoNewsId))
             .thenReturn(pages);
         when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
-        when(ecoNewsCommentRepo.countByParentCommentId(any())).thenReturn(0);
+        when(ecoNewsCommentRepo.countLikesByCommentIds(List.of(ecoNewsComment.getId()), userVO.getId()))
+            .thenReturn(Collections.emptyList());
+        when(ecoNewsCommentRepo.countRepliesByParentCommentIds(List.of(ecoNewsComment.getId())))
+            .thenReturn(Collections.emptyList());
 
         PageableDto<EcoNewsCommentDto> allComments =
             ecoNewsCommentService.findAllComments(pageable, userVO, ecoNewsId);
@@ -220,7 +222,6 @@ class EcoNewsCommentServiceImplTest {
 
         when(ecoNewsCommentRepo.findById(commentId))
             .thenReturn(Optional.ofNullable(ModelUtils.getEcoNewsComment()));
-        when(httpServletRequest.getHeader("Authorization")).thenReturn(token);
         ecoNewsCommentService.deleteById(commentId, userVO);
         EcoNewsComment comment = verify(ecoNewsCommentRepo, times(1)).save(any(EcoNewsComment.class));
     }
@@ -234,7 +235,6 @@ class EcoNewsCommentServiceImplTest {
 
         when(ecoNewsCommentRepo.findById(commentId))
             .thenReturn(Optional.ofNullable(ModelUtils.getEcoNewsComment()));
-        when(httpServletRequest.getHeader("Authorization")).thenReturn(token);
         ecoNewsCommentService.deleteById(commentId, userVO);
         verify(ecoNewsCommentRepo, times(1)).save(any(EcoNewsComment.class));
     }
@@ -245,7 +245,6 @@ class EcoNewsCommentServiceImplTest {
         UserVO userVO = getUserVO();
         user.setRole(Role.ROLE_ADMIN);
         Long commentId = 1L;
-        when(httpServletRequest.getHeader("Authorization")).thenReturn(token);
         when(ecoNewsCommentRepo.findById(commentId))
             .thenReturn(Optional.ofNullable(ModelUtils.getEcoNewsComment()));
 
@@ -458,11 +457,25 @@ class EcoNewsCommentServiceImplTest {
             .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageRequest, 1L))
                 .thenReturn(page);
         when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
-        when(ecoNewsCommentRepo.countByParentCommentId(ecoNewsCommentDto.getId())).thenReturn(10);
+        Tuple likes = mock(Tuple.class);
+        when(likes.get(0, Long.class)).thenReturn(ecoNewsComment.getId());
+        when(likes.get(1)).thenReturn(1L);
+        when(likes.get(2)).thenReturn(1L);
+        Tuple replies = mock(Tuple.class);
+        when(replies.get(0, Long.class)).thenReturn(ecoNewsComment.getId());
+        when(replies.get(1, Long.class)).thenReturn(10L);
+        when(ecoNewsCommentRepo.countLikesByCommentIds(List.of(ecoNewsComment.getId()), userVO.getId()))
+            .thenReturn(List.of(likes));
+        when(ecoNewsCommentRepo.countRepliesByParentCommentIds(List.of(ecoNewsComment.getId())))
+            .thenReturn(List.of(replies));
 
         PageableDto<EcoNewsCommentDto> actual = ecoNewsCommentService.getAllActiveComments(pageRequest, userVO, 1L);
 
         assertEquals(pageableDto, actual);
+        assertEquals(10, actual.getPage().get(0).getReplies());
+        assertEquals(1, ecoNewsComment.getLikesCount());
+        Assertions.assertTrue(ecoNewsComment.isCurrentUserLiked());
+        verify(ecoNewsCommentRepo, never()).countByParentCommentId(any());
     }
 
     @Test
@@ -2,6 +2,7 @@ package greencity.service;
 
 import greencity.ModelUtils;
 import greencity.TestConst;
+import greencity.annotations.RatingCalculationEnum;
 import greencity.client.RestClient;
 import greencity.constant.AppConstant;
 import greencity.dto.PageableAdvancedDto;
@@ -22,8 +23,13 @@ import greencity.exception.exceptions.NotSavedException;
 import greencity.exception.exceptions.UnsupportedSortException;
 import greencity.filters.EcoNewsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.image.ImageUploader;
+import greencity.image.UploadedImage;
+import greencity.outbox.MessageOutbox;
+import greencity.repository.EcoNewsReactionRepo;
 import greencity.repository.EcoNewsRepo;
-import greencity.repository.EcoNewsSearchRepo;
+import greencity.rating.RatingCalculation;
+import greencity.repository.EcoNewsSearchEngine;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,7 +42,6 @@ import org.springframework.data.domain.*;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.multipart.MultipartFile;
 
-import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.time.ZonedDateTime;
@@ -68,10 +73,22 @@ class EcoNewsServiceImplTest {
     FileService fileService;
 
     @Mock
-    HttpServletRequest httpServletRequest;
+    EcoNewsSearchEngine ecoNewsSearchEngine;
 
     @Mock
-    EcoNewsSearchRepo ecoNewsSearchRepo;
+    EcoNewsReactionRepo ecoNewsReactionRepo;
+
+    @Mock
+    EcoNewsStatistics ecoNewsStatistics;
+
+    @Mock
+    RatingCalculation ratingCalculation;
+
+    @Mock
+    MessageOutbox messageOutbox;
+
+    @Mock
+    ImageUploader imageUploader;
 
     @InjectMocks
     private EcoNewsServiceImpl ecoNewsService;
@@ -99,7 +116,7 @@ class EcoNewsServiceImplTest {
         when(languageService.findByCode(AppConstant.DEFAULT_LANGUAGE_CODE))
             .thenReturn(dto);
         when(ecoNewsRepo.save(ecoNews)).thenReturn(ecoNews);
-        when(fileService.upload(image)).thenReturn(ModelUtils.getUrl().toString());
+        when(imageUploader.upload(image)).thenReturn(new UploadedImage(ModelUtils.getUrl().toString(), null));
 
         assertNotEquals(null, addEcoNewsDtoResponse);
     }
@@ -112,7 +129,8 @@ class EcoNewsServiceImplTest {
 
         when(modelMapper.map(addEcoNewsDtoRequest, EcoNews.class)).thenReturn(ecoNews);
         when(restClient.findByEmail(TestConst.EMAIL)).thenReturn(ModelUtils.getUserVO());
-        when(fileService.upload(any(MultipartFile.class))).thenReturn(ModelUtils.getUrl().toString());
+        when(imageUploader.upload(any(MultipartFile.class)))
+            .thenReturn(new UploadedImage(ModelUtils.getUrl().toString(), null));
         List<TagVO> tagVOList = Collections.singletonList(ModelUtils.getTagVO());
         when(tagService.findTagsByNamesAndType(anyList(), eq(TagType.ECO_NEWS))).thenReturn(tagVOList);
         when(ecoNewsRepo.save(any(EcoNews.class))).thenReturn(ecoNews);
@@ -140,7 +158,7 @@ class EcoNewsServiceImplTest {
         when(modelMapper.map(addEcoNewsDtoRequest, EcoNews.class)).thenReturn(ecoNews);
         when(ecoNewsRepo.save(ecoNews)).thenThrow(DataIntegrityViolationException.class);
         when(restClient.findByEmail(TestConst.EMAIL)).thenReturn(ModelUtils.getUserVO());
-        when(fileService.upload(image)).thenReturn(ModelUtils.getUrl().toString());
+        when(imageUploader.upload(image)).thenReturn(new UploadedImage(ModelUtils.getUrl().toString(), null));
 
         assertThrows(NotSavedException.class, () -> ecoNewsService.save(addEcoNewsDtoRequest, image, TestConst.EMAIL));
     }
@@ -155,7 +173,8 @@ class EcoNewsServiceImplTest {
         when(modelMapper.map(addEcoNewsDtoRequest, EcoNews.class)).thenReturn(ecoNews);
         when(restClient.findByEmail(TestConst.EMAIL)).thenReturn(ModelUtils.getUserVO());
         when(modelMapper.map(ModelUtils.getUserVO(), User.class)).thenReturn(ModelUtils.getUser());
-        when(fileService.upload(any(MultipartFile.class))).thenReturn(ModelUtils.getUrl().toString());
+        when(imageUploader.upload(any(MultipartFile.class)))
+            .thenReturn(new UploadedImage(ModelUtils.getUrl().toString(), null));
         List<TagVO> tagVOList = Collections.singletonList(ModelUtils.getTagVO());
         List<Tag> tags = ModelUtils.getTags();
         when(tagService.findTagsByNamesAndType(anyList(), eq(TagType.ECO_NEWS))).thenReturn(tagVOList);
@@ -315,15 +334,15 @@ class EcoNewsServiceImplTest {
 
     @Test
     void delete() {
-        String accessToken = "Token";
         EcoNews ecoNews = ModelUtils.getEcoNews();
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
         EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        when(httpServletRequest.getHeader("Authorization")).thenReturn(accessToken);
         when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
         ecoNewsService.delete(1L, ecoNewsVO.getAuthor());
 
         verify(ecoNewsRepo, times(1)).deleteById(1L);
+        verify(ecoNewsStatistics).onDeleted(1);
+        verify(ratingCalculation).ratingCalculation(RatingCalculationEnum.DELETE_ECO_NEWS, ecoNewsVO.getAuthor());
     }
 
     @Test
@@ -332,7 +351,7 @@ class EcoNewsServiceImplTest {
         PageableDto<SearchNewsDto> pageableDto = new PageableDto<>(Collections.singletonList(searchNewsDto), 4, 1, 2);
         Page<EcoNews> page = new PageImpl<>(Collections.singletonList(ecoNews), PageRequest.of(1, 3), 1);
 
-        when(ecoNewsSearchRepo.find(PageRequest.of(0, 3), "test", "en")).thenReturn(page);
+        when(ecoNewsSearchEngine.find(PageRequest.of(0, 3), "test", "en")).thenReturn(page);
         when(modelMapper.map(ecoNews, SearchNewsDto.class)).thenReturn(searchNewsDto);
 
         PageableDto<SearchNewsDto> actual = ecoNewsService.search("test", "en");
@@ -370,9 +389,10 @@ class EcoNewsServiceImplTest {
     @Test
     void deleteAllTest() {
         List<Long> listId = Collections.singletonList(1L);
-        doNothing().when(ecoNewsRepo).deleteEcoNewsWithIds(listId);
+        when(ecoNewsRepo.deleteEcoNewsWithIds(listId)).thenReturn(1);
         ecoNewsService.deleteAll(listId);
         verify(ecoNewsRepo, times(1)).deleteEcoNewsWithIds(listId);
+        verify(ecoNewsStatistics).onDeleted(1);
     }
 
     @Test
@@ -384,7 +404,7 @@ class EcoNewsServiceImplTest {
         List<SearchNewsDto> searchNewsDtos = Collections.singletonList(searchNewsDto);
         PageableDto<SearchNewsDto> actual = new PageableDto<>(searchNewsDtos, page.getTotalElements(),
             page.getPageable().getPageNumber(), page.getTotalPages());
-        when(ecoNewsSearchRepo.find(pageable, "query", "en")).thenReturn(page);
+        when(ecoNewsSearchEngine.find(pageable, "query", "en")).thenReturn(page);
         when(modelMapper.map(ecoNews, SearchNewsDto.class)).thenReturn(searchNewsDto);
         PageableDto<SearchNewsDto> expected = ecoNewsService.search(pageable, "query", "en");
         assertEquals(expected.getTotalPages(), actual.getTotalPages());
@@ -436,6 +456,7 @@ class EcoNewsServiceImplTest {
         EcoNewsCommentVO ecoNewsCommentVO = ModelUtils.getEcoNewsCommentVO();
         ecoNewsService.unlikeComment(userVO, ecoNewsCommentVO);
         assertEquals(0, ecoNewsCommentVO.getUsersLiked().size());
+        verify(ratingCalculation).ratingCalculation(RatingCalculationEnum.UNLIKE_COMMENT, userVO);
     }
 
     @Test
@@ -543,106 +564,98 @@ class EcoNewsServiceImplTest {
     @Test
     void likeTest() {
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>());
-
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.deleteDislike(1L, userVO.getId())).thenReturn(0);
+        when(ecoNewsReactionRepo.deleteLike(1L, userVO.getId())).thenReturn(0);
+        when(ecoNewsReactionRepo.insertLike(1L, userVO.getId())).thenReturn(1);
 
         ecoNewsService.like(userVO, 1L);
 
-        assertEquals(1, ecoNewsVO.getUsersLikedNews().size());
-        assertTrue(ecoNewsVO.getUsersLikedNews().contains(userVO));
-        verify(ecoNewsRepo).save(ecoNews);
+        verify(ecoNewsReactionRepo).insertLike(1L, userVO.getId());
+        verify(ecoNewsReactionRepo).updateReactionCounters(1L, 1, 0);
+        verify(ecoNewsRepo, never()).save(any(EcoNews.class));
     }
 
     @Test
     void givenEcoNewsLikedByUser_whenLikedByUser_shouldRemoveLike() {
         // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.deleteDislike(1L, userVO.getId())).thenReturn(0);
+        when(ecoNewsReactionRepo.deleteLike(1L, userVO.getId())).thenReturn(1);
 
         // when
         ecoNewsService.like(userVO, 1L);
-        ecoNewsService.like(userVO, 1L);
 
         // then
-        assertEquals(0, ecoNewsVO.getUsersLikedNews().size());
+        verify(ecoNewsReactionRepo, never()).insertLike(anyLong(), anyLong());
+        verify(ecoNewsReactionRepo).updateReactionCounters(1L, -1, 0);
+    }
+
+    @Test
+    void likeNotFoundTest() {
+        UserVO userVO = ModelUtils.getUserVO();
+        when(ecoNewsRepo.existsById(1L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> ecoNewsService.like(userVO, 1L));
+        verifyNoInteractions(ecoNewsReactionRepo);
     }
 
     @Test
     void dislikeTest() {
         // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersDislikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.deleteLike(1L, userVO.getId())).thenReturn(0);
+        when(ecoNewsReactionRepo.deleteDislike(1L, userVO.getId())).thenReturn(0);
+        when(ecoNewsReactionRepo.insertDislike(1L, userVO.getId())).thenReturn(1);
 
         // when
         ecoNewsService.dislike(userVO, 1L);
+
         // then
-        assertTrue(ecoNewsVO.getUsersDislikedNews().contains(userVO));
-        assertEquals(1, ecoNewsVO.getUsersDislikedNews().size());
-        verify(ecoNewsRepo).save(ecoNews);
+        verify(ecoNewsReactionRepo).insertDislike(1L, userVO.getId());
+        verify(ecoNewsReactionRepo).updateReactionCounters(1L, 0, 1);
     }
 
     @Test
     void givenEcoNewsLikedByUser_whenDislikedByUser_shouldRemoveLikeAndAddDislike() {
         // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>(Set.of(userVO)));
-        ecoNewsVO.setUsersDislikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.deleteLike(1L, userVO.getId())).thenReturn(1);
+        when(ecoNewsReactionRepo.deleteDislike(1L, userVO.getId())).thenReturn(0);
+        when(ecoNewsReactionRepo.insertDislike(1L, userVO.getId())).thenReturn(1);
+
         // when
         ecoNewsService.dislike(userVO, 1L);
+
         // then
-        assertTrue(ecoNewsVO.getUsersDislikedNews().contains(userVO));
-        assertTrue(ecoNewsVO.getUsersLikedNews().isEmpty());
-        assertEquals(1, ecoNewsVO.getUsersDislikedNews().size());
-        assertEquals(0, ecoNewsVO.getUsersLikedNews().size());
+        verify(ecoNewsReactionRepo).insertDislike(1L, userVO.getId());
+        verify(ecoNewsReactionRepo).updateReactionCounters(1L, -1, 1);
     }
 
     @Test
     void countLikesForEcoNews() {
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        Set<UserVO> usersLiked = new HashSet<>();
-        usersLiked.add(UserVO.builder().id(1L).build());
-        usersLiked.add(UserVO.builder().id(2L).build());
-
-        ecoNewsVO.setUsersLikedNews(usersLiked);
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        when(ecoNewsReactionRepo.findLikesCountByEcoNewsId(1L)).thenReturn(Optional.of(2));
 
         int actualAmountOfLikes = ecoNewsService.countLikesForEcoNews(1L);
 
         assertEquals(2, actualAmountOfLikes);
+        verify(ecoNewsRepo, never()).findById(anyLong());
+    }
+
+    @Test
+    void countLikesForEcoNewsNotFound() {
+        when(ecoNewsReactionRepo.findLikesCountByEcoNewsId(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> ecoNewsService.countLikesForEcoNews(1L));
     }
 
     @Test
     void countDislikesForEcoNews() {
         // given
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        UserVO user1 = ModelUtils.getUserVO();
-        UserVO user2 = UserVO.builder().id(2L).name("User2").build();
-        ecoNewsVO.setUsersDislikedNews(Set.of(user1, user2));
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        when(ecoNewsReactionRepo.findDislikesCountByEcoNewsId(1L)).thenReturn(Optional.of(2));
 
         // when
         Integer actual = ecoNewsService.countDislikesForEcoNews(1L);
@@ -654,14 +667,8 @@ class EcoNewsServiceImplTest {
     @Test
     void checkNewsIsLikedByUserTest() {
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        Set<UserVO> usersLiked = new HashSet<>();
-        usersLiked.add(UserVO.builder().id(2L).build());
-        usersLiked.add(UserVO.builder().id(3L).build());
-        ecoNewsVO.setUsersLikedNews(usersLiked);
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.existsLikeByEcoNewsIdAndUserId(1L, userVO.getId())).thenReturn(false);
 
         boolean isLikedByUser = ecoNewsService.checkNewsIsLikedByUser(1L, userVO);
 
@@ -686,8 +693,8 @@ class EcoNewsServiceImplTest {
     @Test
     void uploadImages() {
         MultipartFile[] multipartFiles = {ModelUtils.getFile()};
-        ecoNewsService.uploadImages(multipartFiles);
-        Arrays.stream(multipartFiles).forEach(multipartFile -> verify(fileService).upload(multipartFile));
+        when(fileService.uploadAll(Arrays.asList(multipartFiles))).thenReturn(List.of("url"));
+        assertArrayEquals(new String[] {"url"}, ecoNewsService.uploadImages(multipartFiles));
     }
 
     @Test
@@ -0,0 +1,87 @@
+package greencity.service;
+
+import greencity.repository.EcoNewsRepo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EcoNewsStatisticsTest {
+    @InjectMocks
+    private EcoNewsStatistics ecoNewsStatistics;
+    @Mock
+    private EcoNewsRepo ecoNewsRepo;
+
+    @Test
+    void getTotalCountLoadsCountOnlyOnceTest() {
+        when(ecoNewsRepo.totalCountOfCreationNews()).thenReturn(5);
+
+        assertEquals(5, ecoNewsStatistics.getTotalCount());
+        ecoNewsStatistics.onCreated();
+        ecoNewsStatistics.onDeleted(3);
+
+        assertEquals(3, ecoNewsStatistics.getTotalCount());
+        verify(ecoNewsRepo, times(1)).totalCountOfCreationNews();
+    }
+
+    @Test
+    void changesBeforeFirstReadAreTakenFromDatabaseTest() {
+        ecoNewsStatistics.onCreated();
+        when(ecoNewsRepo.totalCountOfCreationNews()).thenReturn(1);
+
+        assertEquals(1, ecoNewsStatistics.getTotalCount());
+    }
+
+    @Test
+    void changesAreAppliedOnlyAfterCommitTest() {
+        when(ecoNewsRepo.totalCountOfCreationNews()).thenReturn(5);
+        ecoNewsStatistics.getTotalCount();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ecoNewsStatistics.onCreated();
+            ecoNewsStatistics.onDeleted(3);
+
+            assertEquals(5, ecoNewsStatistics.getTotalCount());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(3, ecoNewsStatistics.getTotalCount());
+    }
+
+    @Test
+    void rolledBackChangesAreNotAppliedTest() {
+        when(ecoNewsRepo.totalCountOfCreationNews()).thenReturn(5);
+        ecoNewsStatistics.getTotalCount();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ecoNewsStatistics.onCreated();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(5, ecoNewsStatistics.getTotalCount());
+    }
+
+    @Test
+    void reconcileTest() {
+        when(ecoNewsRepo.totalCountOfCreationNews()).thenReturn(2, 7);
+        ecoNewsStatistics.getTotalCount();
+
+        ecoNewsStatistics.reconcile();
+
+        assertEquals(7, ecoNewsStatistics.getTotalCount());
+    }
+}
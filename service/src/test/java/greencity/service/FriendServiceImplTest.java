@@ -50,6 +50,9 @@ public class FriendServiceImplTest {
     @Mock
     private FriendDtoMapper mapper;
 
+    @Mock
+    private FriendStatisticsLoader friendStatisticsLoader;
+
     @Ignore("This test is temporarily ignored")
     @Test
     public void testGetAllUserFriends() {
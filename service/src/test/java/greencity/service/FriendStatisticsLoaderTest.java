@@ -0,0 +1,77 @@
+package greencity.service;
+
+import greencity.enums.HabitAssignStatus;
+import greencity.repository.EcoNewsRepo;
+import greencity.repository.FriendRepo;
+import greencity.repository.HabitAssignRepo;
+import greencity.service.FriendStatisticsLoader.FriendStatistics;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FriendStatisticsLoaderTest {
+    @InjectMocks
+    private FriendStatisticsLoader friendStatisticsLoader;
+    @Mock
+    private FriendRepo friendRepo;
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+    @Mock
+    private EcoNewsRepo ecoNewsRepo;
+
+    @Test
+    void loadShouldAggregateStatisticsOfAllUsersWithGroupedQueries() {
+        Set<Long> userIds = Set.of(2L, 3L);
+        List<Tuple> mutualFriends = List.of(tuple(2L, 4L));
+        List<Tuple> habits = List.of(tuple(2L, HabitAssignStatus.ACQUIRED, 1L),
+            tuple(2L, HabitAssignStatus.INPROGRESS, 2L),
+            tuple(3L, HabitAssignStatus.INPROGRESS, 5L));
+        List<Tuple> news = List.of(tuple(3L, 7L));
+        when(friendRepo.countMutualFriends(1L, userIds)).thenReturn(mutualFriends);
+        when(habitAssignRepo.countHabitAssignsByUserIdsAndStatuses(eq(userIds), anyCollection())).thenReturn(habits);
+        when(ecoNewsRepo.countPublishedNewsByUserIds(userIds)).thenReturn(news);
+
+        Map<Long, FriendStatistics> statistics = friendStatisticsLoader.load(1L, userIds);
+
+        assertEquals(2, statistics.size());
+        FriendStatistics first = statistics.get(2L);
+        assertEquals(4, first.getMutualFriends());
+        assertEquals(1, first.getAmountHabitsAcquired());
+        assertEquals(2, first.getAmountHabitsInProgress());
+        assertEquals(0, first.getAmountNewsPublished());
+        FriendStatistics second = statistics.get(3L);
+        assertEquals(0, second.getMutualFriends());
+        assertEquals(0, second.getAmountHabitsAcquired());
+        assertEquals(5, second.getAmountHabitsInProgress());
+        assertEquals(7, second.getAmountNewsPublished());
+    }
+
+    @Test
+    void loadShouldNotQueryForEmptyPage() {
+        Map<Long, FriendStatistics> statistics = friendStatisticsLoader.load(1L, Collections.emptySet());
+
+        assertTrue(statistics.isEmpty());
+        verifyNoInteractions(friendRepo, habitAssignRepo, ecoNewsRepo);
+    }
+
+    private static Tuple tuple(Object... values) {
+        Tuple tuple = mock(Tuple.class);
+        for (int i = 0; i < values.length; i++) {
+            lenient().when(tuple.get(i)).thenReturn(values[i]);
+        }
+        return tuple;
+    }
+}
@@ -0,0 +1,67 @@
+package greencity.service;
+
+import greencity.dto.user.UserVO;
+import greencity.enums.OutboundMessageType;
+import greencity.message.SendHabitNotification;
+import greencity.outbox.MessageOutbox;
+import greencity.repository.HabitAssignRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HabitNotificationSenderTest {
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+    @Mock
+    private MessageOutbox messageOutbox;
+    private HabitNotificationSender habitNotificationSender;
+
+    @BeforeEach
+    void setUp() {
+        habitNotificationSender = new HabitNotificationSender(habitAssignRepo, messageOutbox, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendQueuesOnlyInactiveUsersWithOneQueryPerBatchTest() {
+        List<UserVO> users = List.of(user(1L), user(2L), user(3L));
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsByPeriod(eq(List.of(1L, 2L)), any(), any()))
+            .thenReturn(List.of(1L));
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsByPeriod(eq(List.of(3L)), any(), any()))
+            .thenReturn(List.of());
+
+        assertEquals(2, habitNotificationSender.send(users));
+
+        ArgumentCaptor<List<SendHabitNotification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageOutbox, times(2)).enqueueAll(eq(OutboundMessageType.HABIT_NOTIFICATION), captor.capture());
+        assertEquals(List.of("user2@gmail.com", "user3@gmail.com"), captor.getAllValues().stream()
+            .flatMap(List::stream)
+            .map(SendHabitNotification::getEmail)
+            .toList());
+        verify(habitAssignRepo, times(2)).findUserIdsWithMarkedHabitAssignsByPeriod(anyCollection(), any(), any());
+    }
+
+    @Test
+    void sendDoesNotQueueAnythingForActiveUsersTest() {
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsByPeriod(anyCollection(), any(), any()))
+            .thenReturn(List.of(1L));
+
+        assertEquals(0, habitNotificationSender.send(List.of(user(1L))));
+
+        verify(messageOutbox, never()).enqueueAll(any(), anyList());
+    }
+
+    private static UserVO user(Long id) {
+        return UserVO.builder().id(id).name("user" + id).email("user" + id + "@gmail.com").build();
+    }
+}
@@ -0,0 +1,70 @@
+package greencity.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocalFileServiceTest {
+    @TempDir
+    Path root;
+    @Mock
+    private ModelMapper modelMapper;
+
+    private LocalFileService localFileService;
+
+    @BeforeEach
+    void setUp() {
+        localFileService = new LocalFileService(root.toString(), "http://localhost:8080/files/", modelMapper);
+    }
+
+    @Test
+    void uploadWritesFileToRootDirectory() throws IOException {
+        MultipartFile file = file("image.png", "content");
+
+        String url = localFileService.upload(file);
+
+        assertTrue(url.startsWith("http://localhost:8080/files/"));
+        assertTrue(url.endsWith("image.png"));
+        Path saved = root.resolve(url.substring(url.lastIndexOf('/') + 1));
+        assertEquals("content", Files.readString(saved));
+    }
+
+    @Test
+    void uploadAllKeepsOrderOfFiles() {
+        List<String> urls = localFileService.uploadAll(List.of(file("first.png", "1"), file("second.png", "2")));
+
+        assertEquals(2, urls.size());
+        assertTrue(urls.get(0).endsWith("first.png"));
+        assertTrue(urls.get(1).endsWith("second.png"));
+    }
+
+    @Test
+    void deleteRemovesUploadedFile() throws IOException {
+        String url = localFileService.upload(file("image.png", "content"));
+
+        localFileService.delete(url);
+
+        try (var files = Files.list(root)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static MultipartFile file(String name, String content) {
+        return new MockMultipartFile("image", name, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,90 @@
+package greencity.service;
+
+import greencity.dto.notification.NotificationPushDto;
+import greencity.dto.notification.NotificationReadDto;
+import greencity.enums.NotificationPushAction;
+import greencity.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPublisherTest {
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private NotificationRepository notificationRepository;
+    @InjectMocks
+    private NotificationPublisher notificationPublisher;
+
+    @Test
+    void connected_LoadsCounterOncePerUser() {
+        when(notificationRepository.countByUserIdAndViewedFalse(1L)).thenReturn(4L);
+
+        notificationPublisher.connected(1L);
+        notificationPublisher.connected(1L);
+
+        assertEquals(OptionalLong.of(4), notificationPublisher.getUnreadCount(1L));
+        verify(notificationRepository).countByUserIdAndViewedFalse(1L);
+    }
+
+    @Test
+    void disconnected_DropsCounterAfterLastSession() {
+        when(notificationRepository.countByUserIdAndViewedFalse(1L)).thenReturn(4L);
+        notificationPublisher.connected(1L);
+        notificationPublisher.connected(1L);
+
+        notificationPublisher.disconnected(1L);
+        assertTrue(notificationPublisher.getUnreadCount(1L).isPresent());
+
+        notificationPublisher.disconnected(1L);
+        assertTrue(notificationPublisher.getUnreadCount(1L).isEmpty());
+    }
+
+    @Test
+    void created_ConnectedUser_PushesNotificationWithRecountedCounter() {
+        when(notificationRepository.countByUserIdAndViewedFalse(1L)).thenReturn(4L, 5L);
+        notificationPublisher.connected(1L);
+        NotificationReadDto notification = NotificationReadDto.builder().id(7L).userId(1L).build();
+        ArgumentCaptor<NotificationPushDto> captor = ArgumentCaptor.forClass(NotificationPushDto.class);
+
+        notificationPublisher.created(notification);
+
+        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq(NotificationPublisher.DESTINATION),
+            captor.capture());
+        assertEquals(NotificationPushAction.CREATED, captor.getValue().getAction());
+        assertEquals(7L, captor.getValue().getNotificationId());
+        assertEquals(5L, captor.getValue().getUnreadCount());
+        assertEquals(OptionalLong.of(5), notificationPublisher.getUnreadCount(1L));
+        verify(notificationRepository, times(2)).countByUserIdAndViewedFalse(1L);
+    }
+
+    @Test
+    void viewedChanged_ConnectedUser_RecountsCounter() {
+        when(notificationRepository.countByUserIdAndViewedFalse(1L)).thenReturn(4L, 3L);
+        notificationPublisher.connected(1L);
+
+        notificationPublisher.viewedChanged(1L, 7L, true);
+
+        assertEquals(OptionalLong.of(3), notificationPublisher.getUnreadCount(1L));
+        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq(NotificationPublisher.DESTINATION),
+            any(NotificationPushDto.class));
+    }
+
+    @Test
+    void created_NotConnectedUser_NothingPushed() {
+        notificationPublisher.created(NotificationReadDto.builder().id(7L).userId(2L).build());
+
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+        assertTrue(notificationPublisher.getUnreadCount(2L).isEmpty());
+    }
+}
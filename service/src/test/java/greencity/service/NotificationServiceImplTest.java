@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
@@ -26,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.MissingResourceException;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static greencity.ModelUtils.getNotificationReadDto;
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +42,10 @@ class NotificationServiceImplTest {
     private NotificationRepository notificationRepository;
     @Mock
     private ModelMapper modelMapper;
+    @Mock
+    private NotificationPublisher notificationPublisher;
+    @Spy
+    private NotificationTemplates notificationTemplates = new NotificationTemplates(List.of("en", "ua"));
     private Notification emptyNotification;
     private Notification notification;
     private final String initialTitle = "New Event Created";
@@ -78,8 +84,9 @@ class NotificationServiceImplTest {
                 .thenReturn(notificationReadDto);
 
         final NotificationReadDto actual = notificationService.createNotification(notificationCreateDto, englishLanguage);
-        assertNotNull(notification.getTitle());
-        assertNotNull(notification.getMessage());
+        assertEquals(initialTitle, notification.getTitle());
+        assertEquals(initialMessage, notification.getMessage());
+        assertArrayEquals(new String[]{"EVENT"}, notification.getMessageParams());
         assertEquals(actual.getTitle(), initialTitle);
         assertEquals(actual.getMessage(), initialMessage);
     }
@@ -198,6 +205,22 @@ class NotificationServiceImplTest {
         verify(modelMapper).map(any(Notification.class), eq(NotificationReadDto.class));
     }
 
+    @Test
+    void getById_StoredParamsInUkrainian_RenderedWithoutParsing() {
+        notification.setTitleParams(new String[]{});
+        notification.setMessageParams(new String[]{"EVENT"});
+        when(notificationRepository.findById(anyLong()))
+                .thenReturn(Optional.of(notification));
+        when(modelMapper.map(notification, NotificationReadDto.class))
+                .thenReturn(getNotificationReadDto());
+
+        final NotificationReadDto notificationReadDto = notificationService.getById(1L, ukrainianLanguage);
+
+        assertTrue(notificationReadDto.getMessage().endsWith(": EVENT"));
+        verify(notificationTemplates, never()).parseMessage(any(), any());
+        verify(notificationTemplates, never()).parseTitle(any(), any());
+    }
+
     @Test
     void getById_NoSuchNotification_throwsNotFoundException() {
         when(notificationRepository.findById(anyLong()))
@@ -308,9 +331,38 @@ class NotificationServiceImplTest {
         notificationService.markAsViewed(1L, 1L);
 
         assertTrue(emptyNotification.isViewed());
+        verify(notificationPublisher).viewedChanged(1L, 1L, true);
         verify(notificationRepository).findByIdAndUserId(anyLong(), anyLong());
     }
 
+    @Test
+    void markAsViewed_AlreadyViewedNotification_NotPushed() {
+        emptyNotification.setViewed(true);
+        when(notificationRepository.findByIdAndUserId(anyLong(), anyLong()))
+                .thenReturn(Optional.of(emptyNotification));
+
+        notificationService.markAsViewed(1L, 1L);
+
+        assertTrue(emptyNotification.isViewed());
+        verify(notificationPublisher, never()).viewedChanged(anyLong(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    void countUnreadNotifications_ConnectedUser_UsesCounter() {
+        when(notificationPublisher.getUnreadCount(1L)).thenReturn(OptionalLong.of(3));
+
+        assertEquals(3, notificationService.countUnreadNotifications(1L));
+        verify(notificationRepository, never()).countByUserIdAndViewedFalse(anyLong());
+    }
+
+    @Test
+    void countUnreadNotifications_NotConnectedUser_CountsInDatabase() {
+        when(notificationPublisher.getUnreadCount(1L)).thenReturn(OptionalLong.empty());
+        when(notificationRepository.countByUserIdAndViewedFalse(1L)).thenReturn(2L);
+
+        assertEquals(2, notificationService.countUnreadNotifications(1L));
+    }
+
     @Test
     void markAsViewed_NoSuchNotification_throwsNotFoundException() {
         when(notificationRepository.findByIdAndUserId(anyLong(), anyLong())).
@@ -0,0 +1,130 @@
+package greencity.service;
+
+import greencity.dto.PageableDto;
+import greencity.dto.search.SearchEventsDto;
+import greencity.dto.search.SearchNewsDto;
+import greencity.dto.search.SearchResponseDto;
+import greencity.entity.Habit;
+import greencity.entity.HabitTranslation;
+import greencity.repository.HabitTranslationRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceImplTest {
+    @Mock
+    private EcoNewsService ecoNewsService;
+    @Mock
+    private EventService eventService;
+    @Mock
+    private HabitTranslationRepo habitTranslationRepo;
+    private SearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchServiceImpl(ecoNewsService, eventService, habitTranslationRepo, 3, 10, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchService.shutdown();
+    }
+
+    @Test
+    void searchMergesResultsOfAllDomainsTest() {
+        SearchNewsDto news = SearchNewsDto.builder().id(1L).title("eco").build();
+        SearchEventsDto event = SearchEventsDto.builder().id(2L).title("eco event").build();
+        HabitTranslation habit = HabitTranslation.builder().name("eco habit").description("description")
+            .habit(Habit.builder().id(3L).image("image").build()).build();
+        when(ecoNewsService.search("eco", "en")).thenReturn(new PageableDto<>(List.of(news), 4, 0, 2));
+        when(eventService.search(PageRequest.of(0, 3), "eco")).thenReturn(new PageableDto<>(List.of(event), 1, 0, 1));
+        when(habitTranslationRepo.searchNotCustomHabits(PageRequest.of(0, 3), "eco", "en"))
+            .thenReturn(new PageImpl<>(List.of(habit), PageRequest.of(0, 3), 1));
+
+        SearchResponseDto actual = searchService.search("eco", "en");
+
+        assertEquals(List.of(news), actual.getEcoNews());
+        assertEquals(List.of(event), actual.getEvents());
+        assertEquals(3L, actual.getHabits().get(0).getId());
+        assertEquals(4L, actual.getCountOfEcoNews());
+        assertEquals(1L, actual.getCountOfEvents());
+        assertEquals(1L, actual.getCountOfHabits());
+        assertEquals(6L, actual.getCountOfResults());
+        assertTrue(actual.getIncompleteTypes().isEmpty());
+    }
+
+    @Test
+    void searchSkipsSlowAndFailedDomainsTest() {
+        when(ecoNewsService.search("eco", "en")).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return new PageableDto<>(Collections.emptyList(), 0, 0, 0);
+        });
+        when(eventService.search(any(), any())).thenThrow(new IllegalStateException("failed"));
+        when(habitTranslationRepo.searchNotCustomHabits(any(), any(), any()))
+            .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        SearchResponseDto actual = searchService.search("eco", "en");
+
+        assertEquals(List.of("ecoNews", "events"), actual.getIncompleteTypes());
+        assertEquals(0L, actual.getCountOfResults());
+    }
+
+    @Test
+    void searchCancelsTimedOutDomainTest() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(ecoNewsService.search("eco", "en")).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new PageableDto<>(Collections.emptyList(), 0, 0, 0);
+        });
+        when(eventService.search(any(), any())).thenReturn(new PageableDto<>(Collections.emptyList(), 0, 0, 0));
+        when(habitTranslationRepo.searchNotCustomHabits(any(), any(), any()))
+            .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        SearchResponseDto actual = searchService.search("eco", "en");
+
+        assertEquals(List.of("ecoNews"), actual.getIncompleteTypes());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void searchSkipsDomainsRejectedByFullQueueTest() {
+        SearchServiceImpl busySearchService =
+            new SearchServiceImpl(ecoNewsService, eventService, habitTranslationRepo, 1, 1, 500);
+        when(ecoNewsService.search("eco", "en")).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return new PageableDto<>(Collections.emptyList(), 0, 0, 0);
+        });
+        lenient().when(eventService.search(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return new PageableDto<>(Collections.emptyList(), 0, 0, 0);
+        });
+
+        try {
+            SearchResponseDto actual = busySearchService.search("eco", "en");
+
+            assertEquals(List.of("ecoNews", "events", "habits"), actual.getIncompleteTypes());
+            verifyNoInteractions(habitTranslationRepo);
+        } finally {
+            busySearchService.shutdown();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import greencity.exception.exceptions.LowRoleLevelException;
 import greencity.exception.exceptions.WrongEmailException;
 import greencity.exception.exceptions.WrongIdException;
 import greencity.repository.UserRepo;
+import greencity.security.service.PrincipalCacheService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -26,6 +27,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
@@ -50,6 +53,8 @@ class UserServiceImplTest {
     private UserServiceImpl userService;
     @Mock
     private ModelMapper modelMapper;
+    @Mock
+    private PrincipalCacheService principalCacheService;
 
     private UserVO userVO = UserVO.builder()
         .id(1L)
@@ -204,6 +209,27 @@ class UserServiceImplTest {
         verify(userRepo, times(2)).findById(anyLong());
         verify(userRepo).updateUserStatus(2L, String.valueOf(CREATED));
         verify(modelMapper).map(TEST_USER_VO_ROLE_USER, UserStatusDto.class);
+        verify(principalCacheService).evict(TEST_USER_VO_ROLE_USER.getEmail());
+    }
+
+    @Test
+    void testUpdateStatusEvictsPrincipalAfterCommit() {
+        when(userRepo.findByEmail(TEST_EMAIL_2)).thenReturn(Optional.ofNullable(TEST_USER));
+        when(modelMapper.map(TEST_USER, UserVO.class)).thenReturn(TEST_USER_VO);
+        when(userRepo.findById(2L)).thenReturn(Optional.ofNullable(TEST_USER_ROLE_USER));
+        when(modelMapper.map(TEST_USER_ROLE_USER, UserVO.class)).thenReturn(TEST_USER_VO_ROLE_USER);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.updateStatus(2L, CREATED, TEST_EMAIL_2);
+
+            verify(principalCacheService, never()).evict(anyString());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(principalCacheService).evict(TEST_USER_VO_ROLE_USER.getEmail());
     }
 
     @Test